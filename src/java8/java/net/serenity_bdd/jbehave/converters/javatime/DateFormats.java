@@ -0,0 +1,63 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+/**
+ * The date layouts accepted by the java.time converters, matching the Joda converters: year first (yyyy-MM-dd,
+ * yyyy/MM/dd), day first (dd-MM-yyyy, dd/MM/yyyy) or compact (ddMMyyyy).
+ * The layout is picked with a single scan for the first separator, and the formatters are built once and shared,
+ * as java.time formatters are immutable and thread-safe.
+ */
+final class DateFormats {
+
+    private static final String[] DATE_PATTERNS = {"yyyy-MM-dd", "yyyy/MM/dd", "dd-MM-yyyy", "dd/MM/yyyy", "ddMMyyyy"};
+
+    private static final int YEAR_FIRST_WITH_DASH = 0;
+    private static final int YEAR_FIRST_WITH_SLASH = 1;
+    private static final int DAY_FIRST_WITH_DASH = 2;
+    private static final int DAY_FIRST_WITH_SLASH = 3;
+    private static final int COMPACT = 4;
+
+    private static final DateTimeFormatter[] DATE_FORMATS = new DateTimeFormatter[DATE_PATTERNS.length];
+    private static final DateTimeFormatter[] DATE_TIME_FORMATS = new DateTimeFormatter[DATE_PATTERNS.length];
+
+    static {
+        for (int layout = 0; layout < DATE_PATTERNS.length; layout++) {
+            DATE_FORMATS[layout] = DateTimeFormatter.ofPattern(DATE_PATTERNS[layout]);
+            DATE_TIME_FORMATS[layout] = new DateTimeFormatterBuilder()
+                    .appendPattern(DATE_PATTERNS[layout])
+                    .optionalStart().appendLiteral('T').optionalEnd()
+                    .optionalStart().appendLiteral(' ').optionalEnd()
+                    .append(DateTimeFormatter.ISO_LOCAL_TIME)
+                    .toFormatter();
+        }
+    }
+
+    private DateFormats() {
+    }
+
+    static DateTimeFormatter dateFormatFor(String value) {
+        return DATE_FORMATS[layoutOf(value)];
+    }
+
+    static DateTimeFormatter dateTimeFormatFor(String value) {
+        return DATE_TIME_FORMATS[layoutOf(value)];
+    }
+
+    private static int layoutOf(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '-') {
+                return (i == 4) ? YEAR_FIRST_WITH_DASH : DAY_FIRST_WITH_DASH;
+            }
+            if (character == '/') {
+                return (i == 4) ? YEAR_FIRST_WITH_SLASH : DAY_FIRST_WITH_SLASH;
+            }
+            if (character == 'T' || character == ' ') {
+                break;
+            }
+        }
+        return COMPACT;
+    }
+}
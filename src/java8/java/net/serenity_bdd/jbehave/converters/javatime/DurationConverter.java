@@ -0,0 +1,75 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts an ISO-8601 duration (e.g. PT1H30M) or a sequence of amounts and units such as "1h 30m", "90s"
+ * or "250ms" (units: d, h, m, s, ms) to a {@link Duration}.
+ */
+public class DurationConverter implements ParameterConverters.ParameterConverter {
+
+    @Override
+    public boolean accept(Type type) {
+        return type == Duration.class;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        String duration = value.trim();
+        if (!duration.isEmpty() && (duration.charAt(0) == 'P' || duration.charAt(0) == 'p')) {
+            return Duration.parse(duration);
+        }
+        return parseAmountsAndUnits(duration);
+    }
+
+    private Duration parseAmountsAndUnits(String value) {
+        Duration total = Duration.ZERO;
+        int position = 0;
+        boolean found = false;
+        while (position < value.length()) {
+            if (value.charAt(position) == ' ') {
+                position++;
+                continue;
+            }
+            int amountStart = position;
+            while (position < value.length() && Character.isDigit(value.charAt(position))) {
+                position++;
+            }
+            int unitStart = position;
+            while (position < value.length() && Character.isLetter(value.charAt(position))) {
+                position++;
+            }
+            if (amountStart == unitStart || unitStart == position) {
+                throw new DateTimeParseException("Could not parse duration", value, amountStart);
+            }
+            long amount = Long.parseLong(value.substring(amountStart, unitStart));
+            total = total.plus(durationOf(amount, value.substring(unitStart, position), value, unitStart));
+            found = true;
+        }
+        if (!found) {
+            throw new DateTimeParseException("Could not parse duration", value, 0);
+        }
+        return total;
+    }
+
+    private Duration durationOf(long amount, String unit, String value, int position) {
+        switch (unit.toLowerCase()) {
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new DateTimeParseException("Unknown duration unit '" + unit + "'", value, position);
+        }
+    }
+}
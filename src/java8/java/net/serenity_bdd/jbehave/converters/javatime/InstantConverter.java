@@ -0,0 +1,39 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+
+/**
+ * Converts an ISO-8601 UTC timestamp (e.g. 2015-06-20T10:15:30Z) or a number of milliseconds since the epoch
+ * to an {@link Instant}.
+ */
+public class InstantConverter implements ParameterConverters.ParameterConverter {
+
+    @Override
+    public boolean accept(Type type) {
+        return type == Instant.class;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        String instant = value.trim();
+        if (isEpochMillis(instant)) {
+            return Instant.ofEpochMilli(Long.parseLong(instant));
+        }
+        return Instant.parse(instant);
+    }
+
+    private boolean isEpochMillis(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = (value.charAt(0) == '-') ? 1 : 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+/**
+ * The java.time parameter converters, and converters for lists of each type.
+ * These classes are only built and loaded on Java 8 or later.
+ */
+public class JavaTimeConverters {
+
+    public static ParameterConverters.ParameterConverter[] converters() {
+        ParameterConverters.ParameterConverter[] valueConverters = {
+                new LocalDateConverter(),
+                new LocalDateTimeConverter(),
+                new InstantConverter(),
+                new YearMonthConverter(),
+                new DurationConverter()
+        };
+        ParameterConverters.ParameterConverter[] converters
+                = new ParameterConverters.ParameterConverter[valueConverters.length * 2];
+        for (int i = 0; i < valueConverters.length; i++) {
+            converters[i] = valueConverters[i];
+            converters[valueConverters.length + i] = new ValueListConverter(valueConverters[i]);
+        }
+        return converters;
+    }
+}
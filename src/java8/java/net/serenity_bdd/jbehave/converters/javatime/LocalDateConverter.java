@@ -0,0 +1,23 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+
+/**
+ * Converts values such as 2015-06-20, 2015/06/20, 20-06-2015, 20/06/2015 or 20062015 to a {@link LocalDate}.
+ */
+public class LocalDateConverter implements ParameterConverters.ParameterConverter {
+
+    @Override
+    public boolean accept(Type type) {
+        return type == LocalDate.class;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        String date = value.trim();
+        return LocalDate.parse(date, DateFormats.dateFormatFor(date));
+    }
+}
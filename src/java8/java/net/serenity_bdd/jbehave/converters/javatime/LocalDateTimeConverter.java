@@ -0,0 +1,24 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+
+/**
+ * Converts a date in any of the layouts accepted by {@link LocalDateConverter}, followed by a 'T' or a space and
+ * a time (HH:mm, HH:mm:ss or HH:mm:ss.SSS), to a {@link LocalDateTime}.
+ */
+public class LocalDateTimeConverter implements ParameterConverters.ParameterConverter {
+
+    @Override
+    public boolean accept(Type type) {
+        return type == LocalDateTime.class;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        String dateTime = value.trim();
+        return LocalDateTime.parse(dateTime, DateFormats.dateTimeFormatFor(dateTime));
+    }
+}
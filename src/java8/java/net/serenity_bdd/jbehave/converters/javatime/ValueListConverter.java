@@ -0,0 +1,63 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a separated list of values to a List of whatever the given element converter produces.
+ * The separator is a literal string rather than a regular expression; blank values are skipped.
+ */
+public class ValueListConverter implements ParameterConverters.ParameterConverter {
+
+    public static final String DEFAULT_LIST_SEPARATOR = ",";
+
+    private final ParameterConverters.ParameterConverter elementConverter;
+    private final String valueSeparator;
+
+    public ValueListConverter(ParameterConverters.ParameterConverter elementConverter) {
+        this(elementConverter, DEFAULT_LIST_SEPARATOR);
+    }
+
+    public ValueListConverter(ParameterConverters.ParameterConverter elementConverter, String valueSeparator) {
+        this.elementConverter = elementConverter;
+        this.valueSeparator = valueSeparator;
+    }
+
+    @Override
+    public boolean accept(Type type) {
+        if (type instanceof ParameterizedType) {
+            Type rawType = ((ParameterizedType) type).getRawType();
+            return rawType instanceof Class<?>
+                    && List.class.isAssignableFrom((Class<?>) rawType)
+                    && elementConverter.accept(argumentType(type));
+        }
+        return false;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        Type argumentType = argumentType(type);
+        List<Object> values = new ArrayList<>();
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(valueSeparator, start);
+            if (end < 0) {
+                end = value.length();
+            }
+            String element = value.substring(start, end).trim();
+            if (!element.isEmpty()) {
+                values.add(elementConverter.convertValue(element, argumentType));
+            }
+            start = end + valueSeparator.length();
+        }
+        return values;
+    }
+
+    private Type argumentType(Type type) {
+        return ((ParameterizedType) type).getActualTypeArguments()[0];
+    }
+}
@@ -0,0 +1,42 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+
+import java.lang.reflect.Type;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converts values such as 06-2015, 06/2015, 2015-06 or 2015/06 to a {@link YearMonth}.
+ */
+public class YearMonthConverter implements ParameterConverters.ParameterConverter {
+
+    private static final DateTimeFormatter MONTH_YEAR_FORMAT_WITH_DASH = DateTimeFormatter.ofPattern("MM-yyyy");
+    private static final DateTimeFormatter MONTH_YEAR_FORMAT_WITH_SLASH = DateTimeFormatter.ofPattern("MM/yyyy");
+    private static final DateTimeFormatter YEAR_MONTH_FORMAT_WITH_DASH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final DateTimeFormatter YEAR_MONTH_FORMAT_WITH_SLASH = DateTimeFormatter.ofPattern("yyyy/MM");
+
+    @Override
+    public boolean accept(Type type) {
+        return type == YearMonth.class;
+    }
+
+    @Override
+    public Object convertValue(String value, Type type) {
+        String yearMonth = value.trim();
+        return YearMonth.parse(yearMonth, formatFor(yearMonth));
+    }
+
+    private DateTimeFormatter formatFor(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '-') {
+                return (i == 2) ? MONTH_YEAR_FORMAT_WITH_DASH : YEAR_MONTH_FORMAT_WITH_DASH;
+            }
+            if (character == '/') {
+                return (i == 2) ? MONTH_YEAR_FORMAT_WITH_SLASH : YEAR_MONTH_FORMAT_WITH_SLASH;
+            }
+        }
+        return YEAR_MONTH_FORMAT_WITH_DASH;
+    }
+}
@@ -0,0 +1,85 @@
+package net.serenity_bdd.jbehave.converters.javatime;
+
+import org.jbehave.core.steps.ParameterConverters;
+import org.junit.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenConvertingJavaTimeParameters {
+
+    private final ParameterConverters converters = new ParameterConverters().addConverters(JavaTimeConverters.converters());
+
+    private static final LocalDate MIDSUMMER = LocalDate.of(2015, 6, 20);
+
+    @Test
+    public void should_convert_dates_in_any_of_the_supported_layouts() {
+        for (String date : Arrays.asList("2015-06-20", "2015/06/20", "20-06-2015", "20/06/2015", "20062015")) {
+            assertThat(converters.convert(date, LocalDate.class)).isEqualTo(MIDSUMMER);
+        }
+    }
+
+    @Test
+    public void should_convert_date_times() {
+        assertThat(converters.convert("2015-06-20T10:15", LocalDateTime.class))
+                .isEqualTo(LocalDateTime.of(2015, 6, 20, 10, 15));
+        assertThat(converters.convert("20/06/2015 10:15:30", LocalDateTime.class))
+                .isEqualTo(LocalDateTime.of(2015, 6, 20, 10, 15, 30));
+    }
+
+    @Test
+    public void should_convert_instants_from_iso_timestamps_or_epoch_millis() {
+        assertThat(converters.convert("2015-06-20T10:15:30Z", Instant.class))
+                .isEqualTo(Instant.parse("2015-06-20T10:15:30Z"));
+        assertThat(converters.convert("1000", Instant.class)).isEqualTo(Instant.ofEpochSecond(1));
+    }
+
+    @Test
+    public void should_convert_year_months() {
+        for (String yearMonth : Arrays.asList("06-2015", "06/2015", "2015-06", "2015/06")) {
+            assertThat(converters.convert(yearMonth, YearMonth.class)).isEqualTo(YearMonth.of(2015, 6));
+        }
+    }
+
+    @Test
+    public void should_convert_durations() {
+        assertThat(converters.convert("PT1H30M", Duration.class)).isEqualTo(Duration.ofMinutes(90));
+        assertThat(converters.convert("1h 30m", Duration.class)).isEqualTo(Duration.ofMinutes(90));
+        assertThat(converters.convert("250ms", Duration.class)).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    public void should_convert_lists_using_a_literal_separator() {
+        Object dates = converters.convert("2015-06-20, 21/06/2015,", listOf(LocalDate.class));
+
+        assertThat((List<?>) dates).containsExactly(MIDSUMMER, LocalDate.of(2015, 6, 21));
+    }
+
+    private Type listOf(final Type elementType) {
+        return new ParameterizedType() {
+            @Override
+            public Type[] getActualTypeArguments() {
+                return new Type[]{elementType};
+            }
+
+            @Override
+            public Type getRawType() {
+                return List.class;
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return null;
+            }
+        };
+    }
+}
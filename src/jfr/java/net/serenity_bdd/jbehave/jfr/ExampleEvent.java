@@ -0,0 +1,25 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("serenity.jbehave.Example")
+@Label("Example")
+@Category({"Serenity BDD", "JBehave"})
+@Description("One row of the examples table of a scenario")
+class ExampleEvent extends jdk.jfr.Event {
+
+    @Label("Story Path")
+    String storyPath;
+
+    @Label("Scenario Title")
+    String scenarioTitle;
+
+    @Label("Example Row")
+    String row;
+
+    @Label("Outcome")
+    String outcome;
+}
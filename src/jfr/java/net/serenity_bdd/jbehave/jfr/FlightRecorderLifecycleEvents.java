@@ -0,0 +1,229 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.EventType;
+import net.serenity_bdd.jbehave.ParameterMarkers;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the story, scenario, example and step lifecycle as flight recorder events.
+ * Events are only created and timed when they are enabled in the current recording. With none of them enabled,
+ * outcomes are not tracked at all: steps cost a few flag checks, and stories and scenarios push a shared placeholder.
+ * Stories, scenarios and examples take the worst outcome of their steps; those that started before the recording
+ * did are not recorded.
+ */
+public class FlightRecorderLifecycleEvents extends LifecycleEvents {
+
+    private static final List<EventType> LIFECYCLE_EVENTS = Arrays.asList(
+            EventType.getEventType(StoryEvent.class), EventType.getEventType(ScenarioEvent.class),
+            EventType.getEventType(ExampleEvent.class), EventType.getEventType(StepEvent.class));
+
+    private final ThreadLocal<Context> contexts = new ThreadLocal<Context>() {
+        @Override
+        protected Context initialValue() {
+            return new Context();
+        }
+    };
+
+    private static boolean recording() {
+        for (EventType eventType : LIFECYCLE_EVENTS) {
+            if (eventType.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void storyStarted(String storyPath) {
+        if (!recording()) {
+            contexts.get().stories.push(Frame.<StoryEvent>untracked());
+            return;
+        }
+        StoryEvent event = new StoryEvent();
+        if (event.isEnabled()) {
+            event.storyPath = storyPath;
+            event.begin();
+        }
+        contexts.get().stories.push(new Frame<>(storyPath, event.isEnabled() ? event : null));
+    }
+
+    @Override
+    public void storyFinished() {
+        Frame<StoryEvent> story = contexts.get().stories.poll();
+        if (story != null && story.event != null) {
+            story.event.outcome = story.outcome();
+            story.event.commit();
+        }
+    }
+
+    @Override
+    public void scenarioStarted(String scenarioTitle) {
+        Context context = contexts.get();
+        if (!recording()) {
+            context.scenarios.push(Frame.<ScenarioEvent>untracked());
+            return;
+        }
+        ScenarioEvent event = new ScenarioEvent();
+        if (event.isEnabled()) {
+            event.storyPath = context.storyPath();
+            event.scenarioTitle = scenarioTitle;
+            event.begin();
+        }
+        context.scenarios.push(new Frame<>(scenarioTitle, event.isEnabled() ? event : null));
+    }
+
+    @Override
+    public void scenarioFinished() {
+        Context context = contexts.get();
+        examplesFinished();
+        Frame<ScenarioEvent> scenario = context.scenarios.poll();
+        if (scenario != null && scenario.event != null) {
+            scenario.event.outcome = scenario.outcome();
+            scenario.event.commit();
+        }
+    }
+
+    @Override
+    public void exampleStarted(Map<String, String> tableRow) {
+        examplesFinished();
+        if (!recording()) {
+            return;
+        }
+        Context context = contexts.get();
+        ExampleEvent event = new ExampleEvent();
+        if (event.isEnabled()) {
+            event.storyPath = context.storyPath();
+            event.scenarioTitle = context.scenarioTitle();
+            event.row = String.valueOf(tableRow);
+            event.begin();
+        }
+        context.example = new Frame<>(null, event.isEnabled() ? event : null);
+    }
+
+    @Override
+    public void examplesFinished() {
+        Context context = contexts.get();
+        Frame<ExampleEvent> example = context.example;
+        context.example = null;
+        if (example != null && example.event != null) {
+            example.event.outcome = example.outcome();
+            example.event.commit();
+        }
+    }
+
+    @Override
+    public void stepStarted(String step) {
+        StepEvent event = new StepEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            contexts.get().step = event;
+        }
+    }
+
+    @Override
+    public void stepFinished(String stepTitle, String outcome) {
+        if (!recording()) {
+            return;
+        }
+        Context context = contexts.get();
+        context.stepFinishedWith(outcome);
+        StepEvent event = context.step;
+        context.step = null;
+        if (event == null) {
+            event = new StepEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+        }
+        event.storyPath = context.storyPath();
+        event.scenarioTitle = context.scenarioTitle();
+        event.stepPattern = ParameterMarkers.withoutValues(stepTitle);
+        event.outcome = outcome;
+        event.commit();
+    }
+
+    private static class Context {
+        private final Deque<Frame<StoryEvent>> stories = new ArrayDeque<>();
+        private final Deque<Frame<ScenarioEvent>> scenarios = new ArrayDeque<>();
+        private Frame<ExampleEvent> example;
+        private StepEvent step;
+
+        private String storyPath() {
+            return stories.isEmpty() ? null : stories.peek().name;
+        }
+
+        private String scenarioTitle() {
+            return scenarios.isEmpty() ? null : scenarios.peek().name;
+        }
+
+        private void stepFinishedWith(String outcome) {
+            for (Frame<StoryEvent> story : stories) {
+                story.stepFinishedWith(outcome);
+            }
+            for (Frame<ScenarioEvent> scenario : scenarios) {
+                scenario.stepFinishedWith(outcome);
+            }
+            if (example != null) {
+                example.stepFinishedWith(outcome);
+            }
+        }
+    }
+
+    /**
+     * A story, scenario or example in progress, with its event if it is being recorded.
+     */
+    private static class Frame<E> {
+        private static final Frame<Object> UNTRACKED = new Frame<>(null, null);
+
+        private final String name;
+        private final E event;
+        private String worstOutcome;
+
+        private Frame(String name, E event) {
+            this.name = name;
+            this.event = event;
+        }
+
+        /**
+         * Stands for a story or scenario that started while nothing was being recorded.
+         */
+        @SuppressWarnings("unchecked")
+        private static <E> Frame<E> untracked() {
+            return (Frame<E>) UNTRACKED;
+        }
+
+        private void stepFinishedWith(String outcome) {
+            if (this == UNTRACKED) {
+                return;
+            }
+            if (rankOf(outcome) > rankOf(worstOutcome)) {
+                worstOutcome = outcome;
+            }
+        }
+
+        private String outcome() {
+            return (worstOutcome == null) ? SUCCESS : worstOutcome;
+        }
+
+        private static int rankOf(String outcome) {
+            if (outcome == null) {
+                return -1;
+            }
+            switch (outcome) {
+                case FAILURE:
+                    return 3;
+                case PENDING:
+                    return 2;
+                case IGNORED:
+                    return 1;
+                default:
+                    return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("serenity.jbehave.Scenario")
+@Label("Scenario")
+@Category({"Serenity BDD", "JBehave"})
+@Description("A scenario, from beforeScenario to afterScenario")
+class ScenarioEvent extends jdk.jfr.Event {
+
+    @Label("Story Path")
+    String storyPath;
+
+    @Label("Scenario Title")
+    String scenarioTitle;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,25 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("serenity.jbehave.Step")
+@Label("Step")
+@Category({"Serenity BDD", "JBehave"})
+@Description("The execution of a step")
+class StepEvent extends jdk.jfr.Event {
+
+    @Label("Story Path")
+    String storyPath;
+
+    @Label("Scenario Title")
+    String scenarioTitle;
+
+    @Label("Step Pattern")
+    String stepPattern;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,19 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("serenity.jbehave.Story")
+@Label("Story")
+@Category({"Serenity BDD", "JBehave"})
+@Description("A story, from beforeStory to afterStory")
+class StoryEvent extends jdk.jfr.Event {
+
+    @Label("Story Path")
+    String storyPath;
+
+    @Label("Outcome")
+    String outcome;
+}
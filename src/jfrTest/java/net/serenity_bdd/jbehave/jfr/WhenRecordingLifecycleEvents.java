@@ -0,0 +1,102 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenRecordingLifecycleEvents {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final FlightRecorderLifecycleEvents lifecycleEvents = new FlightRecorderLifecycleEvents();
+
+    private Recording recording;
+
+    @Before
+    public void createRecording() {
+        recording = new Recording();
+        recording.enable("serenity.jbehave.Story");
+        recording.enable("serenity.jbehave.Scenario");
+        recording.enable("serenity.jbehave.Step");
+    }
+
+    @After
+    public void closeRecording() {
+        recording.close();
+    }
+
+    @Test
+    public void should_record_stories_and_scenarios_with_the_worst_outcome_of_their_steps() throws IOException {
+        recording.start();
+        runStory("stories/pricing.story");
+        recording.stop();
+
+        List<RecordedEvent> events = recordedEvents();
+
+        RecordedEvent story = only("serenity.jbehave.Story", events);
+        assertThat(story.getString("storyPath")).isEqualTo("stories/pricing.story");
+        assertThat(story.getString("outcome")).isEqualTo(LifecycleEvents.FAILURE);
+        assertThat(only("serenity.jbehave.Scenario", events).getString("scenarioTitle")).isEqualTo("Pricing");
+        assertThat(named("serenity.jbehave.Step", events)).hasSize(2);
+    }
+
+    @Test
+    public void should_not_record_stories_that_started_before_the_recording() throws IOException {
+        lifecycleEvents.storyStarted("stories/before.story");
+        recording.start();
+        lifecycleEvents.stepStarted("Given a step");
+        lifecycleEvents.stepFinished("Given a step", LifecycleEvents.SUCCESS);
+        lifecycleEvents.storyFinished();
+        runStory("stories/during.story");
+        recording.stop();
+
+        RecordedEvent story = only("serenity.jbehave.Story", recordedEvents());
+        assertThat(story.getString("storyPath")).isEqualTo("stories/during.story");
+    }
+
+    private void runStory(String storyPath) {
+        lifecycleEvents.storyStarted(storyPath);
+        lifecycleEvents.scenarioStarted("Pricing");
+        lifecycleEvents.stepStarted("Given a stock of <symbol>");
+        lifecycleEvents.stepFinished("Given a stock of \uff5fSTK1\uff60", LifecycleEvents.SUCCESS);
+        lifecycleEvents.stepStarted("Then the price is <price>");
+        lifecycleEvents.stepFinished("Then the price is \uff5f10.0\uff60", LifecycleEvents.FAILURE);
+        lifecycleEvents.scenarioFinished();
+        lifecycleEvents.storyFinished();
+    }
+
+    private List<RecordedEvent> recordedEvents() throws IOException {
+        Path dump = temporaryFolder.newFile("lifecycle.jfr").toPath();
+        recording.dump(dump);
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    private RecordedEvent only(String eventName, List<RecordedEvent> events) {
+        List<RecordedEvent> matchingEvents = named(eventName, events);
+        assertThat(matchingEvents).hasSize(1);
+        return matchingEvents.get(0);
+    }
+
+    private List<RecordedEvent> named(String eventName, List<RecordedEvent> events) {
+        List<RecordedEvent> matchingEvents = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName)) {
+                matchingEvents.add(event);
+            }
+        }
+        return matchingEvents;
+    }
+}
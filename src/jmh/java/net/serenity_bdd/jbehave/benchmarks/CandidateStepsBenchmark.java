@@ -0,0 +1,99 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.SerenityCandidateSteps;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.StepCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of wrapping the JBehave step candidates as Serenity candidates, and of matching a step against
+ * the wrapped candidates, as JBehave does for every step of every scenario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CandidateStepsBenchmark {
+
+    private CandidateSteps serenityCandidateSteps;
+    private List<StepCandidate> candidates;
+
+    @Setup
+    public void createCandidateSteps() {
+        CandidateSteps jbehaveCandidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(), new TradingSteps())
+                .createCandidateSteps().get(0);
+        serenityCandidateSteps = new SerenityCandidateSteps(jbehaveCandidateSteps);
+        candidates = serenityCandidateSteps.listCandidates();
+    }
+
+    @Benchmark
+    public List<StepCandidate> listCandidates() {
+        return serenityCandidateSteps.listCandidates();
+    }
+
+    @Benchmark
+    public StepCandidate matchLastStep() {
+        return firstMatchFor("Then the alert status should be ON");
+    }
+
+    @Benchmark
+    public StepCandidate matchAndStep() {
+        return firstMatchFor("And the alert status should be ON", "Then the trader is notified");
+    }
+
+    private StepCandidate firstMatchFor(String step) {
+        return firstMatchFor(step, null);
+    }
+
+    private StepCandidate firstMatchFor(String step, String previousNonAndStep) {
+        for (StepCandidate candidate : candidates) {
+            if (candidate.matches(step, previousNonAndStep)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public static class TradingSteps {
+        @Given("a stock of symbol $symbol and a threshold of $threshold")
+        public void aStock(String symbol, double threshold) {
+        }
+
+        @Given("a trader called $name")
+        public void aTrader(String name) {
+        }
+
+        @When("the stock is traded at price $price")
+        public void theStockIsTraded(double price) {
+        }
+
+        @When("the trader sells $quantity shares")
+        public void theTraderSells(int quantity) {
+        }
+
+        @Then("the trader is notified")
+        public void theTraderIsNotified() {
+        }
+
+        @Then("the trader should have $quantity shares")
+        public void theTraderShouldHave(int quantity) {
+        }
+
+        @Then("the alert status should be $status")
+        public void theAlertStatusShouldBe(String status) {
+        }
+    }
+}
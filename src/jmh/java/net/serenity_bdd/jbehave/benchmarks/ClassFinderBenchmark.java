@@ -0,0 +1,104 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.ClassFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Finding the step classes of a package in a generated JAR, as the step factory does when a suite starts.
+ * The step classes are compiled with the system Java compiler, so this needs a JDK.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassFinderBenchmark {
+
+    private static final String PACKAGE = "generated.steps";
+
+    @Param({"100", "1000"})
+    public int stepClasses;
+
+    private URLClassLoader jarClassLoader;
+
+    @Setup
+    public void generateJar() throws IOException {
+        File sourceDirectory = Files.createTempDirectory("generated-steps").toFile();
+        File packageDirectory = new File(sourceDirectory, PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory.toPath());
+        List<String> compilerArguments = new ArrayList<>();
+        compilerArguments.add("-classpath");
+        compilerArguments.add(System.getProperty("java.class.path"));
+        for (int i = 0; i < stepClasses; i++) {
+            File source = new File(packageDirectory, "GeneratedSteps" + i + ".java");
+            Files.write(source.toPath(), stepClassSource(i).getBytes(StandardCharsets.UTF_8));
+            compilerArguments.add(source.getPath());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, compilerArguments.toArray(new String[compilerArguments.size()])) != 0) {
+            throw new IllegalStateException("Could not compile the generated step classes");
+        }
+        File jar = new File(sourceDirectory, "generated-steps.jar");
+        writeJar(jar, packageDirectory);
+        jarClassLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @TearDown
+    public void closeClassLoader() throws IOException {
+        jarClassLoader.close();
+    }
+
+    @Benchmark
+    public List<Class<?>> findClassesInPackage() {
+        return ClassFinder.loadClasses().withClassLoader(jarClassLoader).fromPackage(PACKAGE);
+    }
+
+    private String stepClassSource(int index) {
+        return "package " + PACKAGE + ";\n"
+               + "public class GeneratedSteps" + index + " {\n"
+               + "    @org.jbehave.core.annotations.Given(\"generated precondition " + index + " with $value\")\n"
+               + "    public void precondition(String value) {}\n"
+               + "}\n";
+    }
+
+    private void writeJar(File jar, File packageDirectory) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar.toPath());
+             JarOutputStream jarOut = new JarOutputStream(out)) {
+            String path = "";
+            for (String packageElement : PACKAGE.split("\\.")) {
+                path = path + packageElement + "/";
+                jarOut.putNextEntry(new JarEntry(path));
+                jarOut.closeEntry();
+            }
+            File[] classFiles = packageDirectory.listFiles();
+            for (File classFile : classFiles) {
+                if (classFile.getName().endsWith(".class")) {
+                    jarOut.putNextEntry(new JarEntry(path + classFile.getName()));
+                    jarOut.write(Files.readAllBytes(classFile.toPath()));
+                    jarOut.closeEntry();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.converters.CachingParameterConverters;
+import net.serenity_bdd.jbehave.converters.DateListConverter;
+import net.serenity_bdd.jbehave.converters.DateTimeConverter;
+import net.serenity_bdd.jbehave.converters.DateTimeListConverter;
+import net.serenity_bdd.jbehave.converters.TimeConverter;
+import net.serenity_bdd.jbehave.converters.TimeListConverter;
+import net.serenity_bdd.jbehave.converters.YearMonthConverter;
+import net.serenity_bdd.jbehave.converters.YearMonthListConverter;
+import org.jbehave.core.steps.ParameterConverters;
+import org.joda.time.DateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.YearMonth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each of the plugin's parameter converters, and a lookup through the caching parameter converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    private final DateListConverter dateListConverter = new DateListConverter();
+    private final DateTimeConverter dateTimeConverter = new DateTimeConverter();
+    private final DateTimeListConverter dateTimeListConverter = new DateTimeListConverter();
+    private final TimeConverter timeConverter = new TimeConverter();
+    private final TimeListConverter timeListConverter = new TimeListConverter();
+    private final YearMonthConverter yearMonthConverter = new YearMonthConverter();
+    private final YearMonthListConverter yearMonthListConverter = new YearMonthListConverter();
+
+    private final ParameterConverters parameterConverters = new CachingParameterConverters().addConverters(
+            dateTimeConverter, dateTimeListConverter, timeConverter, timeListConverter,
+            yearMonthConverter, yearMonthListConverter);
+
+    // Fields only used for their generic types
+    private List<Date> dates;
+    private List<DateTime> dateTimes;
+    private List<LocalTime> times;
+    private List<YearMonth> yearMonths;
+
+    private final Type dateListType = genericTypeOf("dates");
+    private final Type dateTimeListType = genericTypeOf("dateTimes");
+    private final Type timeListType = genericTypeOf("times");
+    private final Type yearMonthListType = genericTypeOf("yearMonths");
+
+    @Benchmark
+    public Object dateList() {
+        return dateListConverter.convertValue("20/06/2015, 21/06/2015, 22/06/2015", dateListType);
+    }
+
+    @Benchmark
+    public Object dateTime() {
+        return dateTimeConverter.convertValue("20062015", DateTime.class);
+    }
+
+    @Benchmark
+    public Object dateTimeList() {
+        return dateTimeListConverter.convertValue("20062015, 21062015, 22062015", dateTimeListType);
+    }
+
+    @Benchmark
+    public Object time() {
+        return timeConverter.convertValue("10:15:30", LocalTime.class);
+    }
+
+    @Benchmark
+    public Object timeList() {
+        return timeListConverter.convertValue("10:15:30, 11:15:30, 12:15:30", timeListType);
+    }
+
+    @Benchmark
+    public Object yearMonth() {
+        return yearMonthConverter.convertValue("06-2015", YearMonth.class);
+    }
+
+    @Benchmark
+    public Object yearMonthList() {
+        return yearMonthListConverter.convertValue("06-2015, 07-2015, 08-2015", yearMonthListType);
+    }
+
+    @Benchmark
+    public Object cachedLookupAndConversion() {
+        return parameterConverters.convert("10:15:30", LocalTime.class);
+    }
+
+    private Type genericTypeOf(String field) {
+        try {
+            return ConverterBenchmark.class.getDeclaredField(field).getGenericType();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.converters.DateTimeConverter;
+import net.serenity_bdd.jbehave.converters.DateTimeListConverter;
+import net.serenity_bdd.jbehave.converters.javatime.LocalDateConverter;
+import net.serenity_bdd.jbehave.converters.javatime.ValueListConverter;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Joda date converters with the java.time ones, for single dates and for lists of dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateConverterBenchmark {
+
+    @Param({"2015-06-20", "20/06/2015"})
+    public String date;
+
+    private String dates;
+
+    private final DateTimeConverter jodaConverter = new DateTimeConverter();
+    private final DateTimeListConverter jodaListConverter = new DateTimeListConverter();
+    private final LocalDateConverter javaTimeConverter = new LocalDateConverter();
+    private final ValueListConverter javaTimeListConverter = new ValueListConverter(javaTimeConverter);
+
+    private final Type jodaListType = listOf(DateTime.class);
+    private final Type javaTimeListType = listOf(LocalDate.class);
+
+    @Setup
+    public void createDateList() {
+        dates = date + ", " + date + ", " + date + ", " + date;
+    }
+
+    @Benchmark
+    public Object joda() {
+        return jodaConverter.convertValue(date, DateTime.class);
+    }
+
+    @Benchmark
+    public Object javaTime() {
+        return javaTimeConverter.convertValue(date, LocalDate.class);
+    }
+
+    @Benchmark
+    public Object jodaList() {
+        return jodaListConverter.convertValue(dates, jodaListType);
+    }
+
+    @Benchmark
+    public Object javaTimeList() {
+        return javaTimeListConverter.convertValue(dates, javaTimeListType);
+    }
+
+    private static Type listOf(final Type elementType) {
+        return new ParameterizedType() {
+            @Override
+            public Type[] getActualTypeArguments() {
+                return new Type[]{elementType};
+            }
+
+            @Override
+            public Type getRawType() {
+                return List.class;
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.ParsedMeta;
+import org.jbehave.core.model.Meta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of reading the tags of a scenario meta block for each scenario or example row,
+ * parsing it every time versus reusing the parsed form cached for the meta instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetaParsingBenchmark {
+
+    private Meta meta;
+
+    @Setup
+    public void createMeta() {
+        Properties properties = new Properties();
+        properties.setProperty("issues", "#123, #456");
+        properties.setProperty("feature", "Checkout");
+        properties.setProperty("epic", "Shopping");
+        properties.setProperty("tags", "domain:sales, priority:high, smoke");
+        properties.setProperty("driver", "firefox");
+        meta = new Meta(properties);
+    }
+
+    @Benchmark
+    public ParsedMeta parseEveryTime() {
+        return new ParsedMeta(meta);
+    }
+
+    @Benchmark
+    public ParsedMeta parseOncePerMeta() {
+        return ParsedMeta.from(meta);
+    }
+}
@@ -0,0 +1,36 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.ParameterMarkers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regular expression based step title normalization the reporter used to do with
+ * {@link ParameterMarkers#normalized(String)}, for titles with and without parameter markers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterMarkerNormalizationBenchmark {
+
+    @Param({"Given a user called Joe with 5 items in the basket",
+            "Given a user called \uff5fJoe\uff60 with \uff5f5\uff60 items in the basket"})
+    public String title;
+
+    @Benchmark
+    public String regularExpressions() {
+        return title.replaceAll("\uff5f", "{").replaceAll("\uff60", "}");
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return ParameterMarkers.normalized(title);
+    }
+}
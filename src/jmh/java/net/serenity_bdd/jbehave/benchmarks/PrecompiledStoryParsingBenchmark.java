@@ -0,0 +1,96 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import net.serenity_bdd.jbehave.precompiled.PrecompiledStoryParser;
+import net.serenity_bdd.jbehave.precompiled.StoryPrecompiler;
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Story;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse throughput of the Serenity story parser on the story text, against the precompiled story parser loading
+ * the same story from its .storyc file. Both include everything a story run pays for: the precompiled path still
+ * hashes the story text and reads the .storyc resource from the classpath on each parse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrecompiledStoryParsingBenchmark {
+
+    private static final String STORY_PATH = "stories/generated.story";
+
+    @Param({"10", "100"})
+    public int scenarios;
+
+    @Param({"10", "1000"})
+    public int exampleRows;
+
+    private String storyAsText;
+    private File storyDirectory;
+    private ClassLoader originalClassLoader;
+
+    private final SerenityStoryParser serenityStoryParser
+            = new SerenityStoryParser(new LocalizedKeywords(), new ExamplesTableFactory());
+    private final PrecompiledStoryParser precompiledStoryParser = new PrecompiledStoryParser(serenityStoryParser);
+
+    @Setup
+    public void precompileStory() throws IOException {
+        StringBuilder story = new StringBuilder("Meta:\n@tag domain:pricing\n\n"
+                                                + "Narrative:\nIn order to price trades\nAs a trader\nI want alerts\n\n");
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            story.append("Scenario: pricing scenario ").append(scenario).append('\n')
+                 .append("Meta:\n@issue #").append(scenario).append('\n')
+                 .append("Given a stock of <symbol> and a threshold of <threshold>\n")
+                 .append("When the stock is traded at <price>\n")
+                 .append("Then the alert status should be <status>\n\n")
+                 .append("Examples:\n|symbol|threshold|price|status|\n");
+            for (int row = 0; row < exampleRows; row++) {
+                story.append("|STK").append(row).append("|10.0|").append(row % 20).append(".0|ON|\n");
+            }
+            story.append('\n');
+        }
+        storyAsText = story.toString();
+
+        storyDirectory = Files.createTempDirectory("precompiled-stories").toFile();
+        File storyFile = new File(storyDirectory, STORY_PATH);
+        FileUtils.writeStringToFile(storyFile, storyAsText, "UTF-8");
+        new StoryPrecompiler(serenityStoryParser).precompile(storyDirectory, storyDirectory);
+
+        originalClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(
+                new URLClassLoader(new URL[]{storyDirectory.toURI().toURL()}, originalClassLoader));
+    }
+
+    @TearDown
+    public void removeStory() throws IOException {
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+        FileUtils.deleteDirectory(storyDirectory);
+    }
+
+    @Benchmark
+    public Story serenityStoryParser() {
+        return serenityStoryParser.parseStory(storyAsText, STORY_PATH);
+    }
+
+    @Benchmark
+    public Story precompiledStoryParser() {
+        return precompiledStoryParser.parseStory(storyAsText, STORY_PATH);
+    }
+}
@@ -0,0 +1,97 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.SerenityReporter;
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.core.webdriver.SystemPropertiesConfiguration;
+import org.jbehave.core.model.Story;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steps per second through the reporter: each invocation runs a scenario of 100 steps through
+ * beforeStep and successful. The story is tagged "@driver none", so no driver is ever set up.
+ * Each invocation runs in a story of its own, on a new reporter, so that the outcomes of earlier invocations do not
+ * pile up in the step listeners; the story setup is left out of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReporterThroughputBenchmark {
+
+    private static final int STEPS_PER_SCENARIO = 100;
+
+    private static final String STEP = "Given a stock of \uff5fSTK1\uff60 and a threshold of \uff5f10.0\uff60";
+
+    private Path outputDirectory;
+    private SystemPropertiesConfiguration configuration;
+    private Story story;
+    private SerenityReporter reporter;
+
+    @Setup(Level.Trial)
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("reporter-benchmark");
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.toString());
+        configuration = new SystemPropertiesConfiguration(environmentVariables);
+        story = new SerenityStoryParser().parseStory("Meta:\n@driver none\n\nScenario: a scenario\nGiven a step\n",
+                                                     "stories/benchmark.story");
+    }
+
+    @Setup(Level.Invocation)
+    public void startStory() {
+        reporter = new SerenityReporter(configuration);
+        reporter.beforeStory(story, false);
+    }
+
+    @TearDown(Level.Invocation)
+    public void finishStory() {
+        reporter.afterStory(false);
+        StepEventBus.getEventBus().dropAllListeners();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDirectory() throws IOException {
+        Files.walkFileTree(outputDirectory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS_PER_SCENARIO)
+    public void stepsThroughTheReporter() {
+        reporter.beforeScenario("a scenario");
+        for (int step = 0; step < STEPS_PER_SCENARIO; step++) {
+            reporter.beforeStep(STEP);
+            reporter.successful(STEP);
+        }
+        reporter.afterScenario();
+    }
+}
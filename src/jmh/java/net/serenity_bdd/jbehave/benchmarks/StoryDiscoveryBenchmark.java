@@ -0,0 +1,81 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.SerenityStories;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Story discovery over a generated tree of story files on the class path: finding all the stories, and finding
+ * one story by name (which goes through the story path finder first).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StoryDiscoveryBenchmark {
+
+    @Param({"10", "50"})
+    public int directories;
+
+    @Param({"20"})
+    public int storiesPerDirectory;
+
+    private URLClassLoader storyClassLoader;
+
+    @Setup
+    public void generateStoryTree() throws IOException {
+        File root = Files.createTempDirectory("story-tree").toFile();
+        byte[] story = "Scenario: a scenario\nGiven a step\n".getBytes(StandardCharsets.UTF_8);
+        for (int directory = 0; directory < directories; directory++) {
+            File storyDirectory = new File(root, "stories/feature_" + directory + "/capability");
+            Files.createDirectories(storyDirectory.toPath());
+            for (int storyNumber = 0; storyNumber < storiesPerDirectory; storyNumber++) {
+                Files.write(new File(storyDirectory, "story_" + directory + "_" + storyNumber + ".story").toPath(),
+                            story);
+            }
+        }
+        storyClassLoader = new URLClassLoader(new URL[]{root.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @TearDown
+    public void closeClassLoader() throws IOException {
+        storyClassLoader.close();
+    }
+
+    @Benchmark
+    public List<String> findAllStories() {
+        return newStories().storyPaths();
+    }
+
+    @Benchmark
+    public List<String> findStoryByName() {
+        SerenityStories stories = newStories();
+        stories.findStoriesCalled("story_" + (directories - 1) + "_0.story");
+        return stories.storyPaths();
+    }
+
+    private SerenityStories newStories() {
+        return new SerenityStories(new MockEnvironmentVariables()) {
+            @Override
+            public ClassLoader getClassLoader() {
+                return storyClassLoader;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package net.serenity_bdd.jbehave.benchmarks;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse throughput of the JBehave regex parser and the Serenity story parser, for generated stories with
+ * a given number of data-driven scenarios and example rows per scenario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StoryParsingBenchmark {
+
+    @Param({"10", "100"})
+    public int scenarios;
+
+    @Param({"10", "1000"})
+    public int exampleRows;
+
+    private String storyAsText;
+
+    private final ExamplesTableFactory tableFactory = new ExamplesTableFactory();
+    private final RegexStoryParser regexStoryParser = new RegexStoryParser(new LocalizedKeywords(), tableFactory);
+    private final SerenityStoryParser serenityStoryParser = new SerenityStoryParser(new LocalizedKeywords(), tableFactory);
+
+    @Setup
+    public void generateStory() {
+        StringBuilder story = new StringBuilder("Meta:\n@tag domain:pricing\n\n"
+                                                + "Narrative:\nIn order to price trades\nAs a trader\nI want alerts\n\n");
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            story.append("Scenario: pricing scenario ").append(scenario).append('\n')
+                 .append("Meta:\n@issue #").append(scenario).append('\n')
+                 .append("Given a stock of <symbol> and a threshold of <threshold>\n")
+                 .append("When the stock is traded at <price>\n")
+                 .append("Then the alert status should be <status>\n\n")
+                 .append("Examples:\n|symbol|threshold|price|status|\n");
+            for (int row = 0; row < exampleRows; row++) {
+                story.append("|STK").append(row).append("|10.0|").append(row % 20).append(".0|ON|\n");
+            }
+            story.append('\n');
+        }
+        storyAsText = story.toString();
+    }
+
+    @Benchmark
+    public Story regexStoryParser() {
+        return regexStoryParser.parseStory(storyAsText, "stories/generated.story");
+    }
+
+    @Benchmark
+    public Story serenityStoryParser() {
+        return serenityStoryParser.parseStory(storyAsText, "stories/generated.story");
+    }
+}
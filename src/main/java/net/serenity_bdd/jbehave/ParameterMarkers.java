@@ -0,0 +1,63 @@
+package net.serenity_bdd.jbehave;
+
+/**
+ * JBehave marks the parameter values in the step titles it reports with a pair of special characters.
+ * This replaces them with braces in a single pass, without compiling any regular expressions,
+ * and returns the original title untouched when there is nothing to replace.
+ */
+public class ParameterMarkers {
+
+    public static final char OPEN_PARAM_CHAR = '\uff5f';
+    public static final char CLOSE_PARAM_CHAR = '\uff60';
+
+    public static String normalized(String value) {
+        int firstMarker = firstMarkerIn(value);
+        if (firstMarker < 0) {
+            return value;
+        }
+        char[] characters = value.toCharArray();
+        for (int i = firstMarker; i < characters.length; i++) {
+            if (characters[i] == OPEN_PARAM_CHAR) {
+                characters[i] = '{';
+            } else if (characters[i] == CLOSE_PARAM_CHAR) {
+                characters[i] = '}';
+            }
+        }
+        return new String(characters);
+    }
+
+    /**
+     * The step title with each marked parameter value replaced by empty braces, so that all the executions of a step
+     * definition share the same title.
+     */
+    public static String withoutValues(String value) {
+        int firstMarker = firstMarkerIn(value);
+        if (firstMarker < 0) {
+            return value;
+        }
+        StringBuilder pattern = new StringBuilder(value.length()).append(value, 0, firstMarker);
+        boolean inValue = false;
+        for (int i = firstMarker; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == OPEN_PARAM_CHAR) {
+                pattern.append("{}");
+                inValue = true;
+            } else if (character == CLOSE_PARAM_CHAR) {
+                inValue = false;
+            } else if (!inValue) {
+                pattern.append(character);
+            }
+        }
+        return pattern.toString();
+    }
+
+    private static int firstMarkerIn(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == OPEN_PARAM_CHAR || character == CLOSE_PARAM_CHAR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
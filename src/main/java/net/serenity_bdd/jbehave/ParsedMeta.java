@@ -0,0 +1,137 @@
+package net.serenity_bdd.jbehave;
+
+import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.util.Inflector;
+import org.jbehave.core.model.Meta;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The issues, features, epics, tags and metadata declared in a story or scenario meta block, parsed once.
+ * JBehave hands the reporter the same {@link Meta} instance for every scenario and example row of a story,
+ * so parsed values are cached per instance for as long as the story model is in use.
+ */
+public class ParsedMeta {
+
+    private static final String PENDING = "pending";
+    private static final String SKIP = "skip";
+    private static final String WIP = "wip";
+
+    private static final String ISSUE = "issue";
+    private static final String FEATURE = "feature";
+    private static final String EPIC = "epic";
+    private static final String TAG = "tag";
+
+    private static final String ISSUES = Inflector.getInstance().pluralize(ISSUE);
+    private static final String FEATURES = Inflector.getInstance().pluralize(FEATURE);
+    private static final String EPICS = Inflector.getInstance().pluralize(EPIC);
+    private static final String TAGS = Inflector.getInstance().pluralize(TAG);
+
+    private static final Splitter VALUE_SPLITTER = Splitter.on(',').omitEmptyStrings().trimResults();
+    private static final Splitter TAG_SPLITTER = Splitter.on(':').trimResults();
+
+    private static final LoadingCache<Meta, ParsedMeta> PARSED_META = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Meta, ParsedMeta>() {
+                @Override
+                public ParsedMeta load(Meta meta) {
+                    return new ParsedMeta(meta);
+                }
+            });
+
+    private final List<String> issues;
+    private final List<TestTag> featuresAndEpics;
+    private final List<TestTag> tags;
+    private final Map<String, String> metadata;
+    private final boolean pending;
+    private final boolean skipped;
+
+    public ParsedMeta(Meta meta) {
+        this.issues = valuesOf(meta, ISSUE, ISSUES);
+        this.featuresAndEpics = ImmutableList.<TestTag>builder()
+                .addAll(tagsOfType(FEATURE, valuesOf(meta, FEATURE, FEATURES)))
+                .addAll(tagsOfType(EPIC, valuesOf(meta, EPIC, EPICS)))
+                .build();
+        this.tags = tagsFrom(valuesOf(meta, TAG, TAGS));
+        this.metadata = metadataFrom(meta);
+        this.pending = meta.hasProperty(PENDING);
+        this.skipped = meta.hasProperty(WIP) || meta.hasProperty(SKIP);
+    }
+
+    public static ParsedMeta from(Meta meta) {
+        return PARSED_META.getUnchecked(meta);
+    }
+
+    public List<String> getIssues() {
+        return issues;
+    }
+
+    public List<TestTag> getFeaturesAndEpics() {
+        return featuresAndEpics;
+    }
+
+    public List<TestTag> getTags() {
+        return tags;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    private static List<String> valuesOf(Meta meta, String singularName, String pluralName) {
+        ImmutableList.Builder<String> values = ImmutableList.builder();
+        addValues(meta.getProperty(singularName), values);
+        addValues(meta.getProperty(pluralName), values);
+        return values.build();
+    }
+
+    private static void addValues(String propertyValue, ImmutableList.Builder<String> values) {
+        if (propertyValue != null) {
+            values.addAll(VALUE_SPLITTER.split(propertyValue));
+        }
+    }
+
+    private static List<TestTag> tagsOfType(String type, List<String> names) {
+        ImmutableList.Builder<TestTag> tags = ImmutableList.builder();
+        for (String name : names) {
+            tags.add(TestTag.withName(name).andType(type));
+        }
+        return tags.build();
+    }
+
+    private static List<TestTag> tagsFrom(List<String> values) {
+        ImmutableList.Builder<TestTag> tags = ImmutableList.builder();
+        for (String value : values) {
+            List<String> tagParts = TAG_SPLITTER.splitToList(value);
+            if (tagParts.size() == 2) {
+                tags.add(TestTag.withName(tagParts.get(1)).andType(tagParts.get(0)));
+            } else {
+                tags.add(TestTag.withName("true").andType(tagParts.get(0)));
+            }
+        }
+        return tags.build();
+    }
+
+    private static Map<String, String> metadataFrom(Meta meta) {
+        ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+        for (String propertyName : meta.getPropertyNames()) {
+            metadata.put(propertyName, meta.getProperty(propertyName));
+        }
+        return metadata.build();
+    }
+}
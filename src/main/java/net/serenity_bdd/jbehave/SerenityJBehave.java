@@ -1,5 +1,6 @@
 package net.serenity_bdd.jbehave;
 
+import net.serenity_bdd.jbehave.converters.CachingParameterConverters;
 import net.serenity_bdd.jbehave.converters.DateListConverter;
 import net.serenity_bdd.jbehave.converters.DateTimeConverter;
 import net.serenity_bdd.jbehave.converters.DateTimeListConverter;
@@ -7,12 +8,21 @@ import net.serenity_bdd.jbehave.converters.TimeConverter;
 import net.serenity_bdd.jbehave.converters.TimeListConverter;
 import net.serenity_bdd.jbehave.converters.YearMonthConverter;
 import net.serenity_bdd.jbehave.converters.YearMonthListConverter;
+import net.serenity_bdd.jbehave.examples.ExternalExamplesTableFactory;
+import net.serenity_bdd.jbehave.precompiled.PrecompiledStoryParser;
+import net.serenity_bdd.jbehave.webdriver.DriverLookAhead;
 import org.jbehave.core.Embeddable;
 import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.ParanamerConfiguration;
 import org.jbehave.core.failures.FailureStrategy;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.CodeLocations;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.CrossReference;
 import org.jbehave.core.reporters.FilePrintStreamFactory;
 import org.jbehave.core.reporters.Format;
@@ -30,6 +40,8 @@ public class SerenityJBehave {
 
     private static final CrossReference xref = new CrossReference();
 
+    private static final String JAVA_TIME_CONVERTERS = "net.serenity_bdd.jbehave.converters.javatime.JavaTimeConverters";
+
     /**
      * Returns a default JBehave configuration object suitable for ThucydidesWebdriverIntegration tests.
      */
@@ -43,19 +55,29 @@ public class SerenityJBehave {
         viewResources.put("decorateNonHtml", "true");
 
         new ParameterConverters.DateConverter();
+        CachingParameterConverters parameterConverters = new CachingParameterConverters();
+        parameterConverters.addConverters(
+                new ParameterConverters.DateConverter(),
+                new DateListConverter(),
+                new DateTimeConverter(),
+                new DateTimeListConverter(),
+                new YearMonthConverter(),
+                new YearMonthListConverter(),
+                new TimeConverter(),
+                new TimeListConverter(),
+                new ParameterConverters.EnumConverter(),
+                new ParameterConverters.EnumListConverter());
+        parameterConverters.addMemoizedConverters(javaTimeConverters());
+        Keywords keywords = new LocalizedKeywords();
+        UTF8StoryLoader storyLoader = new UTF8StoryLoader();
+        ExamplesTableFactory examplesTableFactory
+                = new ExternalExamplesTableFactory(keywords, storyLoader, parameterConverters, new TableTransformers());
+
         return new ParanamerConfiguration()
-                .useParameterConverters(
-                        new ParameterConverters().addConverters(
-                                new ParameterConverters.DateConverter(),
-                                new DateListConverter(),
-                                new DateTimeConverter(),
-                                new DateTimeListConverter(),
-                                new YearMonthConverter(),
-                                new YearMonthListConverter(),
-                                new TimeConverter(),
-                                new TimeListConverter(),
-                                new ParameterConverters.EnumConverter(),
-                                new ParameterConverters.EnumListConverter()))
+                .useKeywords(keywords)
+                .useParameterConverters(parameterConverters)
+                .useExamplesTableFactory(examplesTableFactory)
+                .useStoryParser(storyParserFor(systemConfiguration, keywords, examplesTableFactory))
                 .useStoryReporterBuilder(
                         new StoryReporterBuilder()
                                 .withDefaultFormats()
@@ -65,11 +87,41 @@ public class SerenityJBehave {
                                 .withViewResources(viewResources)
                                 .withPathResolver(new FilePrintStreamFactory.ResolveToPackagedName())
                                 .withFailureTrace(true).withFailureTraceCompression(true)
-                                .withReporters(new SerenityReporter(systemConfiguration)))
-                .useStoryLoader(new UTF8StoryLoader())
+                                .withReporters(new SerenityReporter(systemConfiguration, driverLookAheadFor(embeddable))))
+                .useStoryLoader(storyLoader)
                 .useFailureStrategy(new IgnoreAssumptionViolations());
     }
 
+    private static DriverLookAhead driverLookAheadFor(Embeddable embeddable) {
+        if (embeddable instanceof SerenityStories) {
+            return ((SerenityStories) embeddable).getDriverLookAhead();
+        }
+        return new DriverLookAhead();
+    }
+
+    private static StoryParser storyParserFor(net.thucydides.core.webdriver.Configuration systemConfiguration,
+                                              Keywords keywords,
+                                              ExamplesTableFactory examplesTableFactory) {
+        if (systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.USE_REGEX_STORY_PARSER.getName(), false)) {
+            return new RegexStoryParser(keywords, examplesTableFactory);
+        }
+        return new PrecompiledStoryParser(new SerenityStoryParser(keywords, examplesTableFactory));
+    }
+
+    /**
+     * The java.time converters are built separately, and only when building on Java 8 or later,
+     * so they are only registered if they (and java.time) are available at runtime.
+     */
+    private static ParameterConverters.ParameterConverter[] javaTimeConverters() {
+        try {
+            Class<?> javaTimeConverters = Class.forName(JAVA_TIME_CONVERTERS);
+            return (ParameterConverters.ParameterConverter[]) javaTimeConverters.getMethod("converters").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ParameterConverters.ParameterConverter[0];
+        }
+    }
+
     private static class IgnoreAssumptionViolations implements FailureStrategy {
         @Override
         public void handleFailure(Throwable throwable) throws Throwable {
@@ -25,6 +25,19 @@ public enum SerenityJBehaveSystemProperties {
      */
     METAFILTER,
 
+    /**
+     * Evaluate "groovy:" metafilters with Groovy, rather than with the built-in engine that handles
+     * &amp;&amp;, ||, !, parentheses, property names, == and != without Groovy. Expressions the built-in engine
+     * does not understand always go to Groovy. Defaults to false.
+     */
+    USE_GROOVY_METAFILTERS,
+
+    /**
+     * Read the meta of each story before parsing it, and leave out the stories that the meta filters would not
+     * let run. Defaults to true.
+     */
+    PREFILTER_STORIES,
+
     /**
      * Force Serenity to restart the browser before each scenario.
      */
@@ -37,6 +50,76 @@ public enum SerenityJBehaveSystemProperties {
      */
     RESET_STEPS_EACH_SCENARIO,
 
+    /**
+     * Keep up to this many warm browser sessions (one per driver type) on each test thread, and reuse them
+     * across stories and scenarios. Between stories the cookies and web storage are cleared and the browser
+     * is sent to a blank page, rather than closing it. Defaults to 0, which disables pooling.
+     */
+    DRIVER_POOL_SIZE,
+
+    /**
+     * How many stories a pooled browser session can be used for before it is closed and replaced
+     * by a fresh one (defaults to 50).
+     */
+    DRIVER_POOL_MAX_REUSE,
+
+    /**
+     * How many of the upcoming stories to look at when deciding which pooled browser sessions to warm up
+     * in the background (defaults to 3).
+     */
+    DRIVER_POOL_LOOK_AHEAD,
+
+    /**
+     * Only set up the WebDriver for a story when one of its steps needs a driver, page object or Pages object.
+     * Stories tagged with "@driver none" are always handled this way. Defaults to false.
+     */
+    LAZY_DRIVER_SETUP,
+
+    /**
+     * Hand example table rows to Serenity one at a time as they are executed, instead of copying the whole table
+     * up front. Recommended for very large data-driven scenarios. Defaults to false.
+     */
+    STREAM_EXAMPLES,
+
+    /**
+     * Parse stories with JBehave's own regular expression based parser rather than the faster Serenity parser,
+     * which produces the same stories. Defaults to false.
+     */
+    USE_REGEX_STORY_PARSER,
+
+
+    /**
+     * Record latency histograms of every step (grouped by step title without parameter values), story and phase
+     * of the run (driver support initialization, step execution, step reporting including screenshots, and report
+     * generation), and write them to step-timings.json and step-timings.txt (OpenMetrics) in the output directory.
+     * Defaults to false.
+     */
+    STEP_TIMINGS,
+
+    /**
+     * Deliver step events to the Serenity listeners other than the BaseStepListener (such as console logging) on a
+     * separate thread, in order, instead of on the test thread. Defaults to false.
+     */
+    ASYNC_LISTENERS,
+
+    /**
+     * How many step events can wait for the asynchronous listeners before the test thread has to wait for them
+     * (defaults to 4096).
+     */
+    ASYNC_LISTENER_QUEUE_SIZE,
+
+    /**
+     * Generate the reports at the end of the run on this many threads, in batches of test outcomes.
+     * Defaults to 1, which generates them all in one go on the thread that finishes the run.
+     */
+    REPORT_THREADS,
+
+    /**
+     * Also write the outcomes of the run as a partial outcome set, in the "shard" folder of the output directory,
+     * so that the outcomes of runs split across several nodes can be combined with the ShardMerger.
+     * Defaults to false.
+     */
+    SHARD_OUTCOMES,
 
     /**
      * Define a directory for the .story files, inside src/test/resources. By default, this is 'stories'
@@ -1,15 +1,20 @@
 package net.serenity_bdd.jbehave;
 
-import ch.lambdaj.function.convert.Converter;
-import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
-import com.google.common.base.Splitter;
-import com.google.common.collect.ImmutableList;
+import com.google.common.base.Supplier;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import net.serenity_bdd.core.Serenity;
 import net.serenity_bdd.core.SerenityListeners;
 import net.serenity_bdd.core.SerenityReports;
+import net.serenity_bdd.jbehave.events.StepEventPipeline;
+import net.serenity_bdd.jbehave.examples.ExternalExamplesTable;
+import net.serenity_bdd.jbehave.jfr.LifecycleEvents;
+import net.serenity_bdd.jbehave.metrics.StepTimings;
+import net.serenity_bdd.jbehave.reports.ParallelReportGenerator;
+import net.serenity_bdd.jbehave.shards.ShardOutcomes;
+import net.serenity_bdd.jbehave.webdriver.DeferredDriverSetup;
+import net.serenity_bdd.jbehave.webdriver.DriverLookAhead;
+import net.serenity_bdd.jbehave.webdriver.WebDriverSessionPool;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
@@ -19,7 +24,6 @@ import net.thucydides.core.steps.BaseStepListener;
 import net.thucydides.core.steps.ExecutedStepDescription;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.steps.StepFailure;
-import net.thucydides.core.util.Inflector;
 import net.thucydides.core.util.NameConverter;
 import net.thucydides.core.webdriver.Configuration;
 import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
@@ -44,10 +48,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
-import static ch.lambdaj.Lambda.convert;
 import static ch.lambdaj.Lambda.extract;
 import static ch.lambdaj.Lambda.flatten;
 import static ch.lambdaj.Lambda.on;
+import static net.serenity_bdd.jbehave.metrics.StepTimings.Phase.DRIVER_SUPPORT_INITIALIZATION;
+import static net.serenity_bdd.jbehave.metrics.StepTimings.Phase.REPORT_GENERATION;
+import static net.serenity_bdd.jbehave.metrics.StepTimings.Phase.STEP_REPORTING;
 
 public class SerenityReporter implements StoryReporter {
 
@@ -56,93 +62,164 @@ public class SerenityReporter implements StoryReporter {
     private final List<BaseStepListener> baseStepListeners;
 
     private final Configuration systemConfiguration;
-    private static final String OPEN_PARAM_CHAR = "\uff5f";
-    private static final String CLOSE_PARAM_CHAR = "\uff60";
 
-    private static final String PENDING = "pending";
-    private static final String SKIP = "skip";
-    private static final String WIP = "wip";
+    private static final String DEFAULT_DRIVER = "default";
+    private static final String NO_DRIVER = "none";
+    private static final int DEFAULT_STORIES_TO_LOOK_AHEAD = 3;
+
+    private final WebDriverSessionPool driverPool;
+    private final DriverLookAhead driverLookAhead;
+    private final int storiesToLookAhead;
+
+    private final StepTimings stepTimings;
+    private final StepEventPipeline stepEventPipeline;
+    private final ParallelReportGenerator reportGenerator;
+    private final ShardOutcomes shardOutcomes;
+    private final ThreadLocal<Long> storyStartThreadLocal = new ThreadLocal<>();
+    private final ThreadLocal<Long> stepStartThreadLocal = new ThreadLocal<>();
+
+    private final LifecycleEvents lifecycleEvents = LifecycleEvents.get();
+
+    /**
+     * JBehave shares one reporter between the stories it runs on different threads,
+     * so everything the reporter tracks about the story in progress is kept per thread.
+     * JBehave runs the example rows of a scenario one after the other on the story's thread, so the example
+     * counter only stays right if the rest of the story state (current story, active scenarios, given stories,
+     * meta data and the results forced by pending or skipped meta tags) belongs to that thread too: with the
+     * forced results in static fields, a pending story made the scenarios of stories on other threads pending.
+     * Each thread starts every story and scenario by clearing these, so stories run on a single thread behave
+     * as before.
+     */
+    private final ThreadLocal<StoryState> storyStateThreadLocal = new ThreadLocal<StoryState>() {
+        @Override
+        protected StoryState initialValue() {
+            return new StoryState();
+        }
+    };
 
-    private static Optional<TestResult> forcedStoryResult;
-    private static Optional<TestResult> forcedScenarioResult;
+    private static class StoryState {
+        final Stack<Story> storyStack = new Stack<>();
+        final Stack<String> activeScenarios = new Stack<>();
+        final List<String> givenStories = Lists.newArrayList();
+        final GivenStoryMonitor givenStoryMonitor = new GivenStoryMonitor();
+        Map<String, String> storyMetadata;
+        Optional<TestResult> forcedStoryResult = Optional.absent();
+        Optional<TestResult> forcedScenarioResult = Optional.absent();
+        boolean nestScenarios = false;
+        int exampleCount = 0;
+        ExamplesTable examplesTable;
+    }
 
-    private GivenStoryMonitor givenStoryMonitor;
+    private StoryState state() {
+        return storyStateThreadLocal.get();
+    }
 
     public SerenityReporter(Configuration systemConfiguration) {
+        this(systemConfiguration, new DriverLookAhead());
+    }
+
+    /**
+     * @param driverLookAhead the upcoming stories recorded by the runner of the same story class, used to warm up
+     *                        pooled browser sessions.
+     */
+    public SerenityReporter(Configuration systemConfiguration, DriverLookAhead driverLookAhead) {
         this.systemConfiguration = systemConfiguration;
+        this.driverPool = WebDriverSessionPool.configuredBy(systemConfiguration.getEnvironmentVariables());
+        this.driverLookAhead = driverLookAhead;
+        this.storiesToLookAhead = systemConfiguration.getEnvironmentVariables().getPropertyAsInteger(
+                SerenityJBehaveSystemProperties.DRIVER_POOL_LOOK_AHEAD.getName(), DEFAULT_STORIES_TO_LOOK_AHEAD);
+        this.stepTimings = StepTimings.configuredBy(systemConfiguration.getEnvironmentVariables());
+        this.stepEventPipeline = StepEventPipeline.configuredBy(systemConfiguration.getEnvironmentVariables());
+        this.reportGenerator = ParallelReportGenerator.configuredBy(systemConfiguration.getEnvironmentVariables(),
+                                                                    systemConfiguration.getOutputDirectory(),
+                                                                    reportServices());
+        this.shardOutcomes = ShardOutcomes.configuredBy(systemConfiguration.getEnvironmentVariables());
         serenityListenersThreadLocal = new ThreadLocal<>();
         reportServiceThreadLocal = new ThreadLocal<>();
         baseStepListeners = Lists.newArrayList();
-        givenStoryMonitor = new GivenStoryMonitor();
-        clearStoryResult();
-        clearScenarioResult();
-
     }
 
     private void clearStoryResult() {
-        forcedStoryResult = Optional.absent();
+        state().forcedStoryResult = Optional.absent();
     }
 
     private void clearScenarioResult() {
-        forcedScenarioResult = Optional.absent();
+        state().forcedScenarioResult = Optional.absent();
     }
 
     protected void clearListeners() {
         serenityListenersThreadLocal.remove();
         reportServiceThreadLocal.remove();
-        givenStoryMonitor.clear();
+        state().exampleCount = 0;
+        state().givenStoryMonitor.clear();
     }
 
     protected SerenityListeners getSerenityListeners() {
+        setUpListenersForThisThread();
+        return serenityListenersThreadLocal.get();
+    }
+
+    /**
+     * Register the Serenity listeners for the stories run on this thread, without giving them a driver:
+     * the driver is attached once the story's driver setup has run, which may be deferred.
+     */
+    private void setUpListenersForThisThread() {
         if (serenityListenersThreadLocal.get() == null) {
             SerenityListeners listeners = SerenityReports.setupListeners(systemConfiguration);
+            stepEventPipeline.attachTo(StepEventBus.getEventBus());
             serenityListenersThreadLocal.set(listeners);
             synchronized (baseStepListeners) {
                 baseStepListeners.add(listeners.getBaseStepListener());
             }
         }
-        return serenityListenersThreadLocal.get();
     }
 
     protected ReportService getReportService() {
         return SerenityReports.getReportService(systemConfiguration);
     }
 
+    private Supplier<ReportService> reportServices() {
+        return new Supplier<ReportService>() {
+            @Override
+            public ReportService get() {
+                return getReportService();
+            }
+        };
+    }
+
     public void storyNotAllowed(Story story, String filter) {
     }
 
     public void storyCancelled(Story story, StoryDuration storyDuration) {
     }
 
-    private Stack<Story> storyStack = new Stack<Story>();
-
-    private Stack<String> activeScenarios = new Stack<String>();
-    private List<String> givenStories = Lists.newArrayList();
-
     private Story currentStory() {
-        return storyStack.peek();
+        return state().storyStack.peek();
     }
 
     private void currentStoryIs(Story story) {
-        storyStack.push(story);
+        state().storyStack.push(story);
     }
 
-    private Map<String, String> storyMetadata;
-
     public void beforeStory(Story story, boolean givenStory) {
+        lifecycleEvents.storyStarted(story.getPath());
         clearStoryResult();
         currentStoryIs(story);
         noteAnyGivenStoriesFor(story);
-        storyMetadata = getMetadataFrom(story.getMeta());
+        state().storyMetadata = ParsedMeta.from(story.getMeta()).getMetadata();
         if (!isFixture(story) && !givenStory) {
 
-            activeScenarios.clear();
-
-            configureDriver(story);
+            storyStartThreadLocal.set(stepTimings.start());
+            state().activeScenarios.clear();
 
             SerenityStepFactory.resetContext();
 
-            getSerenityListeners().withDriver(ThucydidesWebDriverSupport.getDriver());
+            setUpListenersForThisThread();
+            if (shouldDeferDriverSetupFor(story)) {
+                DeferredDriverSetup.deferUntilNeeded(driverSetupFor(story));
+            } else {
+                setupDriverFor(story);
+            }
 
             if (!isAStoryLevelGiven(story)) {
                 startTestSuiteForStory(story);
@@ -155,14 +232,12 @@ public class SerenityReporter implements StoryReporter {
         }
     }
 
-    private boolean nestScenarios = false;
-
     private boolean shouldNestScenarios() {
-        return nestScenarios;
+        return state().nestScenarios;
     }
 
     private void shouldNestScenarios(boolean nestScenarios) {
-        this.nestScenarios = nestScenarios;
+        state().nestScenarios = nestScenarios;
     }
 
     private void startTestForFirstScenarioIn(Story story) {
@@ -173,11 +248,12 @@ public class SerenityReporter implements StoryReporter {
     }
 
     public void beforeScenario(String scenarioTitle) {
+        lifecycleEvents.scenarioStarted(scenarioTitle);
 
         clearScenarioResult();
 
         if (shouldRestartDriverBeforeEachScenario() && !shouldNestScenarios()) {
-            WebdriverProxyFactory.resetDriver(ThucydidesWebDriverSupport.getDriver());
+            restartDriver();
         }
 
         if (shouldResetStepsBeforeEachScenario()) {
@@ -199,19 +275,19 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private boolean pendingScenario() {
-        return (forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.PENDING);
+        return (state().forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.PENDING);
     }
 
     private boolean skippedScenario() {
-        return (forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED);
+        return (state().forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED);
     }
 
     private boolean isCurrentScenario(String scenarioTitle) {
-        return !activeScenarios.empty() && scenarioTitle.equals(activeScenarios.peek());
+        return !state().activeScenarios.empty() && scenarioTitle.equals(state().activeScenarios.peek());
     }
 
     private void startNewStep(String scenarioTitle) {
-        if (givenStoryMonitor.isInGivenStory() && StepEventBus.getEventBus().areStepsRunning()) {
+        if (state().givenStoryMonitor.isInGivenStory() && StepEventBus.getEventBus().areStepsRunning()) {
             StepEventBus.getEventBus().updateCurrentStepTitle(scenarioTitle);
         } else {
             StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle(scenarioTitle));
@@ -241,12 +317,12 @@ public class SerenityReporter implements StoryReporter {
     private void noteAnyGivenStoriesFor(Story story) {
         for (GivenStory given : story.getGivenStories().getStories()) {
             String givenStoryName = new File(given.getPath()).getName();
-            givenStories.add(givenStoryName);
+            state().givenStories.add(givenStoryName);
         }
     }
 
     private boolean isAStoryLevelGiven(Story story) {
-        for (String givenStoryName : givenStories) {
+        for (String givenStoryName : state().givenStories) {
             if (hasSameName(story, givenStoryName)) {
                 return true;
             }
@@ -255,21 +331,71 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private void givenStoryDone(Story story) {
-        givenStories.remove(story.getName());
+        state().givenStories.remove(story.getName());
     }
 
     private boolean hasSameName(Story story, String givenStoryName) {
         return story.getName().equalsIgnoreCase(givenStoryName);
     }
 
+    private boolean shouldDeferDriverSetupFor(Story story) {
+        return NO_DRIVER.equalsIgnoreCase(story.getMeta().getProperty("driver"))
+                || systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(
+                        SerenityJBehaveSystemProperties.LAZY_DRIVER_SETUP.getName(), false);
+    }
+
+    private Runnable driverSetupFor(final Story story) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                setupDriverFor(story);
+            }
+        };
+    }
+
+    private void setupDriverFor(Story story) {
+        long setupStart = stepTimings.start();
+        configureDriver(story);
+        getSerenityListeners().withDriver(ThucydidesWebDriverSupport.getDriver());
+        DeferredDriverSetup.driverSetupDone();
+        stepTimings.recordPhase(DRIVER_SUPPORT_INITIALIZATION, setupStart);
+    }
+
     private void configureDriver(Story story) {
-        StepEventBus.getEventBus().setUniqueSession(systemConfiguration.getUseUniqueBrowser());
+        StepEventBus.getEventBus().setUniqueSession(systemConfiguration.getUseUniqueBrowser() || driverPool.isEnabled());
         String requestedDriver = getRequestedDriver(story.getMeta());
         if (StringUtils.isNotEmpty(requestedDriver)) {
             ThucydidesWebDriverSupport.initialize(requestedDriver);
         } else {
             ThucydidesWebDriverSupport.initialize();
         }
+        if (driverPool.isEnabled()) {
+            driverPool.acquire(pooledDriverKeyFor(requestedDriver), ThucydidesWebDriverSupport.getDriver());
+            warmUpDriversForUpcomingStories(story);
+        }
+    }
+
+    private String pooledDriverKeyFor(String requestedDriver) {
+        return StringUtils.isNotEmpty(requestedDriver) ? requestedDriver : DEFAULT_DRIVER;
+    }
+
+    private void warmUpDriversForUpcomingStories(Story story) {
+        List<String> upcomingDrivers = Lists.newArrayList();
+        for (String driverMeta : driverLookAhead.driversRequestedAfter(story.getPath(), storiesToLookAhead)) {
+            upcomingDrivers.add(pooledDriverKeyFor(getRequestedDriver(driverMeta)));
+        }
+        driverPool.warmUp(upcomingDrivers);
+    }
+
+    private void restartDriver() {
+        if (DeferredDriverSetup.isPending()) {
+            return;
+        }
+        if (driverPool.isEnabled()) {
+            driverPool.reset();
+        } else {
+            WebdriverProxyFactory.resetDriver(ThucydidesWebDriverSupport.getDriver());
+        }
     }
 
     private void registerTags(Story story) {
@@ -284,8 +410,12 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private String getRequestedDriver(Meta metaData) {
-        if (StringUtils.isNotEmpty(metaData.getProperty("driver"))) {
-            return metaData.getProperty("driver");
+        return getRequestedDriver(metaData.getProperty("driver"));
+    }
+
+    private String getRequestedDriver(String driverMeta) {
+        if (StringUtils.isNotEmpty(driverMeta) && !NO_DRIVER.equalsIgnoreCase(driverMeta)) {
+            return driverMeta;
         }
         if (systemConfiguration.getDriverType() != null) {
             return systemConfiguration.getDriverType().toString();
@@ -293,66 +423,8 @@ public class SerenityReporter implements StoryReporter {
         return null;
     }
 
-    private List<String> getIssueOrIssuesPropertyValues(Meta metaData) {
-        return getTagPropertyValues(metaData, "issue");
-    }
-
-    private List<TestTag> getFeatureOrFeaturesPropertyValues(Meta metaData) {
-        List<String> features = getTagPropertyValues(metaData, "feature");
-        return convert(features, toFeatureTags());
-    }
-
-    private List<TestTag> getEpicOrEpicsPropertyValues(Meta metaData) {
-        List<String> epics = getTagPropertyValues(metaData, "epic");
-        return convert(epics, toEpicTags());
-    }
-
-    private List<TestTag> getTagOrTagsPropertyValues(Meta metaData) {
-        List<String> tags = getTagPropertyValues(metaData, "tag");
-        return convert(tags, toTags());
-    }
-
-    private Converter<String, TestTag> toTags() {
-        return new Converter<String, TestTag>() {
-            public TestTag convert(String tag) {
-                List<String> tagParts = Lists.newArrayList(Splitter.on(":").trimResults().split(tag));
-                if (tagParts.size() == 2) {
-                    return TestTag.withName(tagParts.get(1)).andType(tagParts.get(0));
-                } else {
-                    return TestTag.withName("true").andType(tagParts.get(0));
-                }
-            }
-        };
-    }
-
-    private Converter<String, TestTag> toFeatureTags() {
-        return new Converter<String, TestTag>() {
-            public TestTag convert(String featureName) {
-                return TestTag.withName(featureName).andType("feature");
-            }
-        };
-    }
-
-    private Converter<String, TestTag> toEpicTags() {
-        return new Converter<String, TestTag>() {
-            public TestTag convert(String featureName) {
-                return TestTag.withName(featureName).andType("epic");
-            }
-        };
-    }
-
-    private List<String> getTagPropertyValues(Meta metaData, String tagType) {
-        String singularTag = metaData.getProperty(tagType);
-        String pluralTagType = Inflector.getInstance().pluralize(tagType);
-
-        String multipleTags = metaData.getProperty(pluralTagType);
-        String allTags = Joiner.on(',').skipNulls().join(singularTag, multipleTags);
-
-        return Lists.newArrayList(Splitter.on(',').omitEmptyStrings().trimResults().split(allTags));
-    }
-
     private void registerIssues(Meta metaData) {
-        List<String> issues = getIssueOrIssuesPropertyValues(metaData);
+        List<String> issues = ParsedMeta.from(metaData).getIssues();
 
         if (!issues.isEmpty()) {
             StepEventBus.getEventBus().addIssuesToCurrentTest(issues);
@@ -360,7 +432,7 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private void registerStoryIssues(Meta metaData) {
-        List<String> issues = getIssueOrIssuesPropertyValues(metaData);
+        List<String> issues = ParsedMeta.from(metaData).getIssues();
 
         if (!issues.isEmpty()) {
             StepEventBus.getEventBus().addIssuesToCurrentStory(issues);
@@ -368,22 +440,15 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private void registerFeaturesAndEpics(Meta metaData) {
-        List<TestTag> featuresAndEpics = featureAndEpicTags(metaData);
+        List<TestTag> featuresAndEpics = ParsedMeta.from(metaData).getFeaturesAndEpics();
 
         if (!featuresAndEpics.isEmpty()) {
             StepEventBus.getEventBus().addTagsToCurrentTest(featuresAndEpics);
         }
     }
 
-    private List<TestTag> featureAndEpicTags(Meta metaData) {
-        List<TestTag> featuresAndEpics = Lists.newArrayList();
-        featuresAndEpics.addAll(getFeatureOrFeaturesPropertyValues(metaData));
-        featuresAndEpics.addAll(getEpicOrEpicsPropertyValues(metaData));
-        return featuresAndEpics;
-    }
-
     private void registerStoryFeaturesAndEpics(Meta metaData) {
-        List<TestTag> featuresAndEpics = featureAndEpicTags(metaData);
+        List<TestTag> featuresAndEpics = ParsedMeta.from(metaData).getFeaturesAndEpics();
 
         if (!featuresAndEpics.isEmpty()) {
             StepEventBus.getEventBus().addTagsToCurrentStory(featuresAndEpics);
@@ -391,33 +456,29 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private void registerTags(Meta metaData) {
-        List<TestTag> tags = getTagOrTagsPropertyValues(metaData);
+        List<TestTag> tags = ParsedMeta.from(metaData).getTags();
 
         if (!tags.isEmpty()) {
             StepEventBus.getEventBus().addTagsToCurrentTest(tags);
         }
     }
 
-    private Map<String, String> getMetadataFrom(Meta metaData) {
-        Map<String, String> metadata = Maps.newHashMap();
-        for (String propertyName : metaData.getPropertyNames()) {
-            metadata.put(propertyName, metaData.getProperty(propertyName));
-        }
-        return metadata;
-    }
-
     private void registerMetadata(Meta metaData) {
         Serenity.getCurrentSession().clearMetaData();
 
-        Map<String, String> scenarioMetadata = getMetadataFrom(metaData);
-        scenarioMetadata.putAll(storyMetadata);
-        for (String key : scenarioMetadata.keySet()) {
-            Serenity.getCurrentSession().addMetaData(key, scenarioMetadata.get(key));
+        Map<String, String> scenarioMetadata = ParsedMeta.from(metaData).getMetadata();
+        for (Map.Entry<String, String> entry : scenarioMetadata.entrySet()) {
+            if (!state().storyMetadata.containsKey(entry.getKey())) {
+                Serenity.getCurrentSession().addMetaData(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, String> entry : state().storyMetadata.entrySet()) {
+            Serenity.getCurrentSession().addMetaData(entry.getKey(), entry.getValue());
         }
     }
 
     private void registerStoryTags(Meta metaData) {
-        List<TestTag> tags = getTagOrTagsPropertyValues(metaData);
+        List<TestTag> tags = ParsedMeta.from(metaData).getTags();
 
         if (!tags.isEmpty()) {
             StepEventBus.getEventBus().addTagsToCurrentStory(tags);
@@ -426,19 +487,19 @@ public class SerenityReporter implements StoryReporter {
 
     private void registerStoryMeta(Meta metaData) {
         if (isPending(metaData)) {
-            forcedStoryResult = Optional.of(TestResult.PENDING);
+            state().forcedStoryResult = Optional.of(TestResult.PENDING);
             StepEventBus.getEventBus().suspendTest();
         } else if (isSkipped(metaData)) {
-            forcedStoryResult = Optional.of(TestResult.SKIPPED);
+            state().forcedStoryResult = Optional.of(TestResult.SKIPPED);
             StepEventBus.getEventBus().suspendTest();
         }
     }
 
     private void registerScenarioMeta(Meta metaData) {
         if (isPending(metaData)) {
-            forcedScenarioResult = Optional.of(TestResult.PENDING);
+            state().forcedScenarioResult = Optional.of(TestResult.PENDING);
         } else if (isSkipped(metaData)) {
-            forcedScenarioResult = Optional.of(TestResult.SKIPPED);
+            state().forcedScenarioResult = Optional.of(TestResult.SKIPPED);
         }
     }
 
@@ -449,7 +510,7 @@ public class SerenityReporter implements StoryReporter {
     public void afterStory(boolean given) {
         shouldNestScenarios(false);
         if (given) {
-            givenStoryMonitor.exitingGivenStory();
+            state().givenStoryMonitor.exitingGivenStory();
             givenStoryDone(currentStory());
         } else {
             if (isAfterStory(currentStory())) {
@@ -457,13 +518,36 @@ public class SerenityReporter implements StoryReporter {
                 generateReports();
             } else if (!isFixture(currentStory()) && !given && (!isAStoryLevelGiven(currentStory()))) {
                 StepEventBus.getEventBus().testSuiteFinished();
+                recordStoryTime(currentStory());
+                releasePooledDriver(currentStory());
+                DeferredDriverSetup.clear();
                 clearListeners();
             }
         }
-        storyStack.pop();
+        state().storyStack.pop();
+        lifecycleEvents.storyFinished();
+        stepEventPipeline.flush();
+    }
+
+    private void recordStoryTime(Story story) {
+        Long storyStart = storyStartThreadLocal.get();
+        storyStartThreadLocal.remove();
+        if (storyStart != null) {
+            stepTimings.recordStory(story.getPath(), storyStart);
+        }
+    }
+
+    private void releasePooledDriver(Story story) {
+        if (driverPool.isEnabled()) {
+            driverPool.release();
+            warmUpDriversForUpcomingStories(story);
+        }
     }
 
     private void closeBrowsersForThisStory() {
+        if (driverPool.isEnabled()) {
+            driverPool.closeAll();
+        }
         if (!systemConfiguration.getUseUniqueBrowser()) {
             ThucydidesWebDriverSupport.closeAllDrivers();
         }
@@ -474,7 +558,20 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private synchronized void generateReports() {
-        getReportService().generateReportsFor(getAllTestOutcomes());
+        try {
+            stepEventPipeline.stop();
+        } finally {
+            writeReports();
+        }
+    }
+
+    private void writeReports() {
+        long reportingStart = stepTimings.start();
+        List<TestOutcome> testOutcomes = getAllTestOutcomes();
+        reportGenerator.generateReportsFor(testOutcomes);
+        shardOutcomes.writeTo(systemConfiguration.getOutputDirectory(), testOutcomes);
+        stepTimings.recordPhase(REPORT_GENERATION, reportingStart);
+        stepTimings.writeTo(systemConfiguration.getOutputDirectory());
     }
 
     public List<TestOutcome> getAllTestOutcomes() {
@@ -493,7 +590,7 @@ public class SerenityReporter implements StoryReporter {
 
     private void startScenarioCalled(String scenarioTitle) {
         StepEventBus.getEventBus().testStarted(scenarioTitle);
-        activeScenarios.add(scenarioTitle);
+        state().activeScenarios.add(scenarioTitle);
     }
 
     private boolean shouldRestartDriverBeforeEachScenario() {
@@ -516,15 +613,15 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private boolean isPending(Meta metaData) {
-        return (metaData.hasProperty(PENDING));
+        return ParsedMeta.from(metaData).isPending();
     }
 
     private boolean isSkipped(Meta metaData) {
-        return (metaData.hasProperty(WIP)|| metaData.hasProperty(SKIP));
+        return ParsedMeta.from(metaData).isSkipped();
     }
 
     public void afterScenario() {
-        if (givenStoryMonitor.isInGivenStory() || shouldNestScenarios()) {
+        if (state().givenStoryMonitor.isInGivenStory() || shouldNestScenarios()) {
             StepEventBus.getEventBus().stepFinished();
         } else {
             StepEventBus.getEventBus().testFinished();
@@ -534,51 +631,61 @@ public class SerenityReporter implements StoryReporter {
             if (isSkippedScenario() || isSkippedStory()) {
                 StepEventBus.getEventBus().setAllStepsTo(TestResult.SKIPPED);
             }
-            activeScenarios.pop();
+            state().activeScenarios.pop();
         }
+        lifecycleEvents.scenarioFinished();
     }
 
     private boolean isPendingScenario() {
-        return forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.PENDING;
+        return state().forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.PENDING;
     }
 
     private boolean isSkippedScenario() {
-        return forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED;
+        return state().forcedScenarioResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED;
     }
 
     private boolean isPendingStory() {
-        return forcedStoryResult.or(TestResult.UNDEFINED) == TestResult.PENDING;
+        return state().forcedStoryResult.or(TestResult.UNDEFINED) == TestResult.PENDING;
     }
 
     private boolean isSkippedStory() {
-        return forcedStoryResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED;
+        return state().forcedStoryResult.or(TestResult.UNDEFINED) == TestResult.SKIPPED;
     }
 
 
     public void givenStories(GivenStories givenStories) {
-        givenStoryMonitor.enteringGivenStory();
+        state().givenStoryMonitor.enteringGivenStory();
     }
 
     public void givenStories(List<String> strings) {
     }
 
-    List<Map<String, String>> exampleData;
-    int exampleCount = 0;
-
     public void beforeExamples(List<String> steps, ExamplesTable table) {
-        exampleCount = 0;
-        exampleData = ImmutableList.copyOf(table.getRows());
+        state().exampleCount = 0;
+        state().examplesTable = table;
         StepEventBus.getEventBus().useExamplesFrom(serenityTableFrom(table));
     }
 
+    /**
+     * Tables backed by an external data file are always streamed.
+     * When streaming, the Serenity table starts with the headers only, and each row is added as its example starts.
+     */
     private DataTable serenityTableFrom(ExamplesTable table) {
+        if (shouldStreamExamplesFrom(table)) {
+            return DataTable.withHeaders(table.getHeaders()).build();
+        }
         return DataTable.withHeaders(table.getHeaders()).andMappedRows(table.getRows()).build();
+    }
 
+    private boolean shouldStreamExamplesFrom(ExamplesTable table) {
+        return (table instanceof ExternalExamplesTable) || systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.STREAM_EXAMPLES.getName(), false);
     }
 
     public void example(Map<String, String> tableRow) {
+        lifecycleEvents.exampleStarted(tableRow);
         if (shouldRestartDriverBeforeEachScenario()) {
-            WebdriverProxyFactory.resetDriver(ThucydidesWebDriverSupport.getDriver());
+            restartDriver();
         }
 
         StepEventBus.getEventBus().clearStepFailures();
@@ -586,12 +693,11 @@ public class SerenityReporter implements StoryReporter {
             finishExample();
         }
         restartPeriodically();
-        startExample();
+        startExample(tableRow);
     }
 
-    private void startExample() {
-        Map<String, String> data = exampleData.get(exampleCount - 1);
-        StepEventBus.getEventBus().exampleStarted(data);
+    private void startExample(Map<String, String> tableRow) {
+        StepEventBus.getEventBus().exampleStarted(tableRow);
     }
 
     private void finishExample() {
@@ -599,13 +705,13 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private boolean executingExamples() {
-        return (exampleCount > 0);
+        return (state().exampleCount > 0);
     }
 
     private void restartPeriodically() {
-        exampleCount++;
+        int exampleCount = ++state().exampleCount;
         if (systemConfiguration.getRestartFrequency() > 0) {
-            if (exampleCount % systemConfiguration.getRestartFrequency() == 0) {
+            if (exampleCount % systemConfiguration.getRestartFrequency() == 0 && !DeferredDriverSetup.isPending()) {
                 WebdriverProxyFactory.resetDriver(ThucydidesWebDriverSupport.getDriver());
             }
         }
@@ -613,19 +719,42 @@ public class SerenityReporter implements StoryReporter {
 
     public void afterExamples() {
         finishExample();
+        closeExternalExamples();
+        lifecycleEvents.examplesFinished();
+    }
+
+    private void closeExternalExamples() {
+        if (state().examplesTable instanceof ExternalExamplesTable) {
+            ((ExternalExamplesTable) state().examplesTable).close();
+        }
+        state().examplesTable = null;
     }
 
     public void beforeStep(String stepTitle) {
         StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle(stepTitle));
+        stepStartThreadLocal.set(stepTimings.start());
+        lifecycleEvents.stepStarted(stepTitle);
     }
 
     public void successful(String title) {
+        stepExecuted(title, LifecycleEvents.SUCCESS);
+        long reportingStart = stepTimings.start();
         if (annotatedResultTakesPriority()) {
             processAnnotatedResult(title);
         } else{
             StepEventBus.getEventBus().updateCurrentStepTitle(normalized(title));
             StepEventBus.getEventBus().stepFinished();
         }
+        stepTimings.recordPhase(STEP_REPORTING, reportingStart);
+    }
+
+    private void stepExecuted(String title, String outcome) {
+        lifecycleEvents.stepFinished(title, outcome);
+        Long stepStart = stepStartThreadLocal.get();
+        stepStartThreadLocal.remove();
+        if (stepStart != null) {
+            stepTimings.recordStep(ParameterMarkers.withoutValues(title), stepStart);
+        }
     }
 
     private void processAnnotatedResult(String title) {
@@ -651,29 +780,36 @@ public class SerenityReporter implements StoryReporter {
     }
 
     public void ignorable(String title) {
+        lifecycleEvents.stepFinished(title, LifecycleEvents.IGNORED);
         StepEventBus.getEventBus().updateCurrentStepTitle(normalized(title));
         StepEventBus.getEventBus().stepIgnored();
     }
 
     public void pending(String stepTitle) {
+        lifecycleEvents.stepFinished(stepTitle, LifecycleEvents.PENDING);
         StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle(normalized(stepTitle)));
         StepEventBus.getEventBus().stepPending();
 
     }
 
     public void notPerformed(String stepTitle) {
+        lifecycleEvents.stepFinished(stepTitle, LifecycleEvents.IGNORED);
         StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle(normalized(stepTitle)));
         StepEventBus.getEventBus().stepIgnored();
     }
 
     public void failed(String stepTitle, Throwable cause) {
         Throwable rootCause = cause.getCause() != null ? cause.getCause() : cause;
-        StepEventBus.getEventBus().updateCurrentStepTitle(stepTitle);
+        stepExecuted(stepTitle, isAssumptionFailure(rootCause) ? LifecycleEvents.IGNORED : LifecycleEvents.FAILURE);
+        long reportingStart = stepTimings.start();
+        String normalizedTitle = normalized(stepTitle);
+        StepEventBus.getEventBus().updateCurrentStepTitle(normalizedTitle);
         if (isAssumptionFailure(rootCause)) {
             StepEventBus.getEventBus().assumptionViolated(rootCause.getMessage());
         } else {
-            StepEventBus.getEventBus().stepFailed(new StepFailure(ExecutedStepDescription.withTitle(normalized(stepTitle)), rootCause));
+            StepEventBus.getEventBus().stepFailed(new StepFailure(ExecutedStepDescription.withTitle(normalizedTitle), rootCause));
         }
+        stepTimings.recordPhase(STEP_REPORTING, reportingStart);
     }
 
     private boolean isAssumptionFailure(Throwable rootCause) {
@@ -693,7 +829,6 @@ public class SerenityReporter implements StoryReporter {
     }
 
     private String normalized(String value) {
-        return value.replaceAll(OPEN_PARAM_CHAR, "{").replaceAll(CLOSE_PARAM_CHAR, "}");
-
+        return ParameterMarkers.normalized(value);
     }
 }
@@ -1,6 +1,7 @@
 package net.serenity_bdd.jbehave;
 
 import com.google.common.collect.Maps;
+import net.serenity_bdd.jbehave.webdriver.DeferredDriverSetup;
 import net.thucydides.core.pages.Pages;
 import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
 import org.slf4j.Logger;
@@ -27,7 +28,9 @@ public class SerenityStepContext {
         } else {
             Object newInstance = null;
             try {
-                ThucydidesWebDriverSupport.getPages();
+                if (!DeferredDriverSetup.isPending()) {
+                    ThucydidesWebDriverSupport.getPages();
+                }
                 if (hasConstructorWithPagesParameter(type)) {
                     newInstance = createNewPageEnabledStepCandidate(type);
                 } else {
@@ -2,6 +2,8 @@ package net.serenity_bdd.jbehave;
 
 import ch.lambdaj.function.convert.Converter;
 import com.google.common.collect.Lists;
+import net.serenity_bdd.jbehave.webdriver.DeferredDriverSetup;
+import net.serenity_bdd.jbehave.webdriver.DriverRequirements;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.steps.DependencyInjector;
 import net.thucydides.core.steps.PageObjectDependencyInjector;
@@ -34,8 +36,14 @@ public class SerenityStepFactory extends AbstractStepsFactory {
         this.dependencyInjectorService = Injectors.getInjector().getInstance(DependencyInjectorService.class);
     }
 
+    /**
+     * While the driver setup of the story is deferred, step libraries are built by a step factory without pages,
+     * so that creating them does not initialize the Serenity WebDriver support.
+     */
     private StepFactory getStepFactory() {
-        return ThucydidesWebDriverSupport.getStepFactory().thatThrowsExcpetionsImmediately();
+        StepFactory stepFactory = DeferredDriverSetup.isPending()
+                ? new StepFactory() : ThucydidesWebDriverSupport.getStepFactory();
+        return stepFactory.thatThrowsExcpetionsImmediately();
     }
 
     public List<CandidateSteps> createCandidateSteps() {
@@ -76,9 +84,14 @@ public class SerenityStepFactory extends AbstractStepsFactory {
     }
 
     public Object createInstanceOfType(Class<?> type) {
+        if (DriverRequirements.stepsNeedADriver(type)) {
+            DeferredDriverSetup.ensureDriverIsSetUp();
+        }
         Object stepsInstance = getContext().newInstanceOf(type);
         StepAnnotations.injectScenarioStepsInto(stepsInstance, getStepFactory());
-        ThucydidesWebDriverSupport.initializeFieldsIn(stepsInstance);
+        if (!DeferredDriverSetup.isPending()) {
+            ThucydidesWebDriverSupport.initializeFieldsIn(stepsInstance);
+        }
         injectDependencies(stepsInstance);
 
         return stepsInstance;
@@ -86,7 +99,9 @@ public class SerenityStepFactory extends AbstractStepsFactory {
 
     private void injectDependencies(Object stepInstance) {
         List<DependencyInjector> dependencyInjectors = dependencyInjectorService.findDependencyInjectors();
-        dependencyInjectors.add(new PageObjectDependencyInjector(ThucydidesWebDriverSupport.getPages()));
+        if (!DeferredDriverSetup.isPending()) {
+            dependencyInjectors.add(new PageObjectDependencyInjector(ThucydidesWebDriverSupport.getPages()));
+        }
 
         for(DependencyInjector injector : dependencyInjectors) {
             injector.injectDependenciesInto(stepInstance);
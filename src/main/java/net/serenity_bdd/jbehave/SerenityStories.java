@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import net.serenity_bdd.jbehave.runners.SerenityReportingRunner;
+import net.serenity_bdd.jbehave.webdriver.DriverLookAhead;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -47,6 +48,7 @@ public class SerenityStories extends JUnitStories {
     private String storyNamePattern = DEFAULT_STORY_NAME;
 
     private Configuration configuration;
+    private final DriverLookAhead driverLookAhead = new DriverLookAhead();
     private List<Format> formats = Arrays.asList(CONSOLE, HTML, XML);
 
     public SerenityStories() {
@@ -79,6 +81,13 @@ public class SerenityStories extends JUnitStories {
         return configuration;
     }
 
+    /**
+     * The stories this class is about to run and the drivers they ask for, as recorded by its runner.
+     */
+    public DriverLookAhead getDriverLookAhead() {
+        return driverLookAhead;
+    }
+
     @Override
     public InjectableStepsFactory stepsFactory() {
         return SerenityStepFactory.withStepsFromPackage(getRootPackage(), configuration()).andClassLoader(getClassLoader());
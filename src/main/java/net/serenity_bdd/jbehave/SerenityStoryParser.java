@@ -0,0 +1,171 @@
+package net.serenity_bdd.jbehave;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A story parser that produces the same stories as JBehave's {@link RegexStoryParser}, in time linear in the size
+ * of the story.
+ * The regular expressions used by the JBehave parser are applied to the whole story and to whole scenarios,
+ * including their examples tables, and backtrack badly on long stories and large tables. This parser first cuts the
+ * story into its header and scenarios, and each scenario into its steps and examples table, with plain keyword
+ * scans. Only the small pieces that are left (the story header, and the title, meta, given stories and steps of each
+ * scenario) are handed to the JBehave parser, and examples tables go straight to the examples table factory.
+ */
+public class SerenityStoryParser implements StoryParser {
+
+    private final Keywords keywords;
+    private final ExamplesTableFactory tableFactory;
+    private final RegexStoryParser regexStoryParser;
+
+    public SerenityStoryParser() {
+        this(new LocalizedKeywords(), new ExamplesTableFactory());
+    }
+
+    public SerenityStoryParser(Keywords keywords, ExamplesTableFactory tableFactory) {
+        this.keywords = keywords;
+        this.tableFactory = tableFactory;
+        this.regexStoryParser = new RegexStoryParser(keywords, tableFactory);
+    }
+
+    public Keywords getKeywords() {
+        return keywords;
+    }
+
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        String header = headerOf(storyAsText);
+        if (header == null) {
+            return regexStoryParser.parseStory(storyAsText, storyPath);
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (ScenarioText scenarioText : scenarioTextsIn(storyAsText)) {
+            scenarios.add(withExamples(parseScenarioWithoutExamples(scenarioText), scenarioText.getExamplesTable()));
+        }
+        return storyWith(storyPath, header, scenarios);
+    }
+
+    /**
+     * The text of the story before its first scenario, or null if it has no scenarios.
+     */
+    public String headerOf(String storyAsText) {
+        int firstScenario = storyAsText.indexOf(keywords.scenario());
+        return (firstScenario < 0) ? null : storyAsText.substring(0, firstScenario);
+    }
+
+    /**
+     * Like the JBehave parser, scenarios are whatever lies between occurrences of the scenario keyword,
+     * and blank scenarios are ignored.
+     * The examples table of a scenario starts after the last line beginning with the examples keyword,
+     * and runs to the end of the scenario.
+     */
+    public List<ScenarioText> scenarioTextsIn(String storyAsText) {
+        String scenarioKeyword = keywords.scenario();
+        String examplesKeyword = "\n" + keywords.examplesTable();
+        List<ScenarioText> scenarios = new ArrayList<>();
+        int firstScenario = storyAsText.indexOf(scenarioKeyword);
+        if (firstScenario < 0) {
+            return scenarios;
+        }
+        int start = firstScenario + scenarioKeyword.length();
+        while (start <= storyAsText.length()) {
+            int end = storyAsText.indexOf(scenarioKeyword, start);
+            if (end < 0) {
+                end = storyAsText.length();
+            }
+            String scenarioText = storyAsText.substring(start, end);
+            if (!scenarioText.trim().isEmpty()) {
+                String scenarioAsText = scenarioKeyword + "\n" + scenarioText;
+                int examplesStart = scenarioAsText.lastIndexOf(examplesKeyword);
+                if (examplesStart < 0) {
+                    scenarios.add(new ScenarioText(scenarioAsText, null));
+                } else {
+                    scenarios.add(new ScenarioText(scenarioAsText.substring(0, examplesStart),
+                                                   scenarioAsText.substring(examplesStart + examplesKeyword.length()).trim()));
+                }
+            }
+            start = end + scenarioKeyword.length();
+        }
+        return scenarios;
+    }
+
+    /**
+     * The title, meta, given stories and steps of a scenario, with an empty examples table.
+     */
+    public Scenario parseScenarioWithoutExamples(ScenarioText scenarioText) {
+        List<Scenario> parsedScenarios
+                = regexStoryParser.parseStory(scenarioText.getScenarioWithoutExamples()).getScenarios();
+        return parsedScenarios.isEmpty()
+                ? new Scenario("", Meta.EMPTY, new GivenStories(""), ExamplesTable.EMPTY, new ArrayList<String>())
+                : parsedScenarios.get(0);
+    }
+
+    /**
+     * @param tableAsText the text of the examples table, or null if the scenario has none.
+     */
+    public Scenario withExamples(Scenario scenario, String tableAsText) {
+        if (tableAsText == null) {
+            return scenario;
+        }
+        ExamplesTable examplesTable = tableFactory.createExamplesTable(tableAsText);
+        GivenStories givenStories = scenario.getGivenStories();
+        if (givenStories.requireParameters()) {
+            givenStories.useExamplesTable(examplesTable);
+        }
+        return new Scenario(scenario.getTitle(), scenario.getMeta(), givenStories, examplesTable, scenario.getSteps());
+    }
+
+    /**
+     * A story with the description, meta, narrative, given stories and lifecycle found in the given header text.
+     */
+    public Story storyWith(String storyPath, String header, List<Scenario> scenarios) {
+        Story parsedHeader = regexStoryParser.parseStory(header + keywords.scenario());
+        Story story = new Story(storyPath,
+                                parsedHeader.getDescription(),
+                                parsedHeader.getMeta(),
+                                parsedHeader.getNarrative(),
+                                parsedHeader.getGivenStories(),
+                                parsedHeader.getLifecycle(),
+                                scenarios);
+        if (storyPath != null) {
+            story.namedAs(new File(storyPath).getName());
+        }
+        return story;
+    }
+
+    /**
+     * The text of a scenario, starting with the scenario keyword, split from the text of its examples table.
+     */
+    public static class ScenarioText {
+        private final String scenarioWithoutExamples;
+        private final String examplesTable;
+
+        public ScenarioText(String scenarioWithoutExamples, String examplesTable) {
+            this.scenarioWithoutExamples = scenarioWithoutExamples;
+            this.examplesTable = examplesTable;
+        }
+
+        public String getScenarioWithoutExamples() {
+            return scenarioWithoutExamples;
+        }
+
+        public String getExamplesTable() {
+            return examplesTable;
+        }
+    }
+}
@@ -1,20 +1,127 @@
 package net.serenity_bdd.jbehave;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.io.IOUtils;
 import org.jbehave.core.io.InvalidStoryResource;
 import org.jbehave.core.io.LoadFromClasspath;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 
+/**
+ * Loads story resources as UTF-8 text.
+ * Loaded text is kept in a bounded, soft-referenced cache shared by all loaders, so that given stories included
+ * by many stories are only read once. Stories on the file system are re-read if their size or modification time
+ * has changed; stories in jars are considered unchanging for the life of the JVM.
+ */
 public class UTF8StoryLoader extends LoadFromClasspath {
 
-	public String loadResourceAsText(String resourcePath) {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int MAX_CACHED_STORIES = 1000;
+
+    private static final Cache<String, StoryText> STORY_TEXT = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_STORIES)
+            .softValues()
+            .build();
+
+    private final ClassLoader classLoader;
+
+    public UTF8StoryLoader() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    public UTF8StoryLoader(ClassLoader classLoader) {
+        super(classLoader);
+        this.classLoader = classLoader;
+    }
+
+    public String loadResourceAsText(String resourcePath) {
+        URL resource = classLoader.getResource(resourcePath);
+        String cacheKey = (resource != null) ? resource.toString() : resourcePath;
+        File storyFile = fileFor(resource);
+        StoryText cachedText = STORY_TEXT.getIfPresent(cacheKey);
+        if (cachedText != null && cachedText.isCurrentFor(storyFile)) {
+            return cachedText.getText();
+        }
+        String text = (storyFile != null) ? readFile(resourcePath, storyFile) : readStream(resourcePath);
+        STORY_TEXT.put(cacheKey, new StoryText(text, storyFile));
+        return text;
+    }
+
+    public static void clearCache() {
+        STORY_TEXT.invalidateAll();
+    }
+
+    private String readStream(String resourcePath) {
         InputStream stream = resourceAsStream(resourcePath);
-		try {
-			return IOUtils.toString(stream, "UTF-8");
-		} catch (IOException e) {
-			throw new InvalidStoryResource(resourcePath, stream, e);
-		}
-	}
+        try {
+            return IOUtils.toString(stream, "UTF-8");
+        } catch (IOException e) {
+            throw new InvalidStoryResource(resourcePath, stream, e);
+        } finally {
+            IOUtils.closeQuietly(stream);
+        }
+    }
+
+    /**
+     * Read the whole file with a single channel read, falling back to the class loader if that fails.
+     */
+    private String readFile(String resourcePath, File storyFile) {
+        try (FileInputStream input = new FileInputStream(storyFile);
+             FileChannel channel = input.getChannel()) {
+            ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    break;
+                }
+            }
+            content.flip();
+            return UTF_8.decode(content).toString();
+        } catch (IOException e) {
+            return readStream(resourcePath);
+        }
+    }
+
+    /**
+     * The file behind a classpath resource, or null if the resource is not a plain file (e.g. it is in a jar).
+     */
+    private File fileFor(URL resource) {
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(resource.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static class StoryText {
+        private final String text;
+        private final long lastModified;
+        private final long length;
+
+        StoryText(String text, File storyFile) {
+            this.text = text;
+            this.lastModified = (storyFile != null) ? storyFile.lastModified() : 0;
+            this.length = (storyFile != null) ? storyFile.length() : 0;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        boolean isCurrentFor(File storyFile) {
+            return storyFile == null || (storyFile.lastModified() == lastModified && storyFile.length() == length);
+        }
+    }
 }
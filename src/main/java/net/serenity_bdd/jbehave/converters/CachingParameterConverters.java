@@ -0,0 +1,255 @@
+package net.serenity_bdd.jbehave.converters;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jbehave.core.steps.NullStepMonitor;
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.ParameterConverters.EnumConverter;
+import org.jbehave.core.steps.ParameterConverters.NumberConverter;
+import org.jbehave.core.steps.StepMonitor;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parameter converters that remember which converter handles each parameter type, rather than asking every
+ * registered converter whether it accepts the type for each step parameter.
+ * Conversions to immutable types (numbers, enums, and Joda and java.time values other than the Joda Mutable* types)
+ * are also memoized in a bounded cache, as example-heavy stories convert the same literal values over and over,
+ * but only by converters known to give the same value for the same text every time: the JBehave number and enum
+ * converters, the Joda converters of this project, and converters added with {@link #addMemoizedConverters}.
+ * Other converters may depend on the day, a counter or some lookup, so their conversions are always done afresh,
+ * as are conversions to mutable types such as lists or java.util.Date.
+ * Types that no converter accepts are remembered too: strings are passed through as JBehave does, and any other
+ * such type fails straight away.
+ */
+public class CachingParameterConverters extends ParameterConverters {
+
+    public static final int DEFAULT_MAX_CACHED_VALUES = 10000;
+
+    private static final ParameterConverter NO_CONVERTER = new ParameterConverter() {
+        public boolean accept(Type type) {
+            return false;
+        }
+
+        public Object convertValue(String value, Type type) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private static final Pattern NEWLINES = Pattern.compile("(\n)|(\r\n)");
+    private static final String SYSTEM_NEWLINE = Matcher.quoteReplacement(System.getProperty("line.separator"));
+
+    private static final List<String> IMMUTABLE_VALUE_PACKAGES = Arrays.asList("org.joda.time.", "java.time.");
+
+    private static final List<Class<?>> IMMUTABLE_VALUE_TYPES = Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class);
+
+    private static final List<Class<?>> MEMOIZED_CONVERTER_TYPES = Arrays.<Class<?>>asList(
+            NumberConverter.class, EnumConverter.class, DateTimeConverter.class, TimeConverter.class,
+            YearMonthConverter.class);
+
+    private Registry registry;
+
+    private final Cache<Conversion, Object> convertedValues;
+    private final StepMonitor monitor;
+
+    public CachingParameterConverters() {
+        this(DEFAULT_MAX_CACHED_VALUES);
+    }
+
+    public CachingParameterConverters(int maxCachedValues) {
+        this(new NullStepMonitor(), maxCachedValues);
+    }
+
+    public CachingParameterConverters(StepMonitor monitor) {
+        this(monitor, DEFAULT_MAX_CACHED_VALUES);
+    }
+
+    public CachingParameterConverters(StepMonitor monitor, int maxCachedValues) {
+        super(monitor);
+        this.monitor = monitor;
+        this.convertedValues = CacheBuilder.newBuilder().maximumSize(maxCachedValues).build();
+    }
+
+    @Override
+    public ParameterConverters addConverters(ParameterConverter... converters) {
+        return addConverters(Arrays.asList(converters));
+    }
+
+    /**
+     * Like JBehave, converters added later take precedence over those already registered.
+     */
+    @Override
+    public ParameterConverters addConverters(List<ParameterConverter> converters) {
+        registry().add(converters);
+        super.addConverters(converters);
+        return this;
+    }
+
+    /**
+     * Add converters that always give the same value for the same text, so that their conversions to immutable
+     * types can be memoized.
+     */
+    public CachingParameterConverters addMemoizedConverters(ParameterConverter... converters) {
+        registry().memoize(Arrays.asList(converters));
+        addConverters(converters);
+        return this;
+    }
+
+    @Override
+    public Object convert(String value, Type type) {
+        ParameterConverter converter = converterFor(type);
+        if (converter == NO_CONVERTER) {
+            return withoutConverter(value, type);
+        }
+        Object convertedValue;
+        if (value == null || !isImmutable(type) || !registry().isMemoized(converter)) {
+            convertedValue = converter.convertValue(value, type);
+        } else {
+            convertedValue = cachedConversion(converter, value, type);
+        }
+        monitor.convertedValueOfType(value, type, convertedValue, converter.getClass());
+        return convertedValue;
+    }
+
+    private Object cachedConversion(ParameterConverter converter, String value, Type type) {
+        Conversion conversion = new Conversion(converter, type, value);
+        Object convertedValue = convertedValues.getIfPresent(conversion);
+        if (convertedValue == null) {
+            convertedValue = converter.convertValue(value, type);
+            if (convertedValue != null) {
+                convertedValues.put(conversion, convertedValue);
+            }
+        }
+        return convertedValue;
+    }
+
+    /**
+     * What JBehave does when none of its converters accepts the type, without asking them all again.
+     */
+    private Object withoutConverter(String value, Type type) {
+        if (type != String.class) {
+            throw new ParameterConvertionFailed("No parameter converter for " + type);
+        }
+        if (value == null || value.indexOf('\n') < 0) {
+            return value;
+        }
+        return NEWLINES.matcher(value).replaceAll(SYSTEM_NEWLINE);
+    }
+
+    private ParameterConverter converterFor(Type type) {
+        return registry().converterFor(type);
+    }
+
+    /**
+     * The JBehave constructor registers its default converters, through addConverters(), before the fields of this
+     * class are initialized, so the registry is created on first use, here, rather than in a field initializer.
+     */
+    private Registry registry() {
+        if (registry == null) {
+            registry = new Registry();
+        }
+        return registry;
+    }
+
+    static boolean isImmutable(Type type) {
+        if (!(type instanceof Class<?>)) {
+            return false;
+        }
+        Class<?> typeClass = (Class<?>) type;
+        if (typeClass.isPrimitive() || typeClass.isEnum() || IMMUTABLE_VALUE_TYPES.contains(typeClass)) {
+            return true;
+        }
+        for (String immutableValuePackage : IMMUTABLE_VALUE_PACKAGES) {
+            if (typeClass.getName().startsWith(immutableValuePackage)
+                && !typeClass.getSimpleName().startsWith("Mutable")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The registered converters, most recently added first, and the converter found for each type.
+     */
+    private static class Registry {
+        private final List<ParameterConverter> converters = new CopyOnWriteArrayList<>();
+        private final Set<ParameterConverter> memoizedConverters
+                = Collections.newSetFromMap(new ConcurrentHashMap<ParameterConverter, Boolean>());
+        private final ConcurrentMap<Type, ParameterConverter> convertersByType = new ConcurrentHashMap<>();
+
+        void add(List<ParameterConverter> addedConverters) {
+            converters.addAll(0, addedConverters);
+            convertersByType.clear();
+        }
+
+        void memoize(List<ParameterConverter> pureConverters) {
+            memoizedConverters.addAll(pureConverters);
+        }
+
+        boolean isMemoized(ParameterConverter converter) {
+            return memoizedConverters.contains(converter) || MEMOIZED_CONVERTER_TYPES.contains(converter.getClass());
+        }
+
+        ParameterConverter converterFor(Type type) {
+            ParameterConverter converter = convertersByType.get(type);
+            if (converter == null) {
+                converter = NO_CONVERTER;
+                for (ParameterConverter candidate : converters) {
+                    if (candidate.accept(type)) {
+                        converter = candidate;
+                        break;
+                    }
+                }
+                convertersByType.putIfAbsent(type, converter);
+            }
+            return converter;
+        }
+    }
+
+    /**
+     * A value converted by a given converter, so that a converter added later does not see the values converted
+     * by the one it replaces.
+     */
+    private static class Conversion {
+        private final ParameterConverter converter;
+        private final Type type;
+        private final String value;
+
+        private Conversion(ParameterConverter converter, Type type, String value) {
+            this.converter = converter;
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Conversion)) {
+                return false;
+            }
+            Conversion that = (Conversion) other;
+            return converter == that.converter && type.equals(that.type) && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(System.identityHashCode(converter), type, value);
+        }
+    }
+}
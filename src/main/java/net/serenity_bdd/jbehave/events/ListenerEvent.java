@@ -0,0 +1,109 @@
+package net.serenity_bdd.jbehave.events;
+
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A call to a step listener, captured on the test thread so that it can be delivered later on the dispatcher
+ * thread. Only calls whose arguments cannot change once sent are captured: strings, numbers, enums, classes and
+ * step descriptions, and maps of strings (such as example rows), which are copied. Calls that carry a live
+ * object, such as the TestOutcome or StepFailure the test thread keeps updating, cannot be captured, and are
+ * delivered on the test thread instead.
+ */
+public final class ListenerEvent implements Runnable {
+
+    private final StepListener listener;
+    private final Method method;
+    private final Object[] arguments;
+
+    public ListenerEvent(StepListener listener, Method method, Object[] arguments) {
+        if (!canCapture(arguments)) {
+            throw new IllegalArgumentException("Cannot capture the arguments of " + method.getName());
+        }
+        this.listener = listener;
+        this.method = method;
+        this.arguments = snapshotOf(arguments);
+    }
+
+    /**
+     * Whether a call with these arguments can be delivered later and still see them as they were.
+     */
+    public static boolean canCapture(Object[] arguments) {
+        if (arguments == null) {
+            return true;
+        }
+        for (Object argument : arguments) {
+            if (!isImmutable(argument) && !isMapOfStrings(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutable(Object argument) {
+        return argument == null
+               || argument instanceof String
+               || argument instanceof Number
+               || argument instanceof Boolean
+               || argument instanceof Character
+               || argument instanceof Enum
+               || argument instanceof Class
+               || argument instanceof ExecutedStepDescription;
+    }
+
+    private static boolean isMapOfStrings(Object argument) {
+        if (!(argument instanceof Map)) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) argument).entrySet()) {
+            boolean stringValue = entry.getValue() == null || entry.getValue() instanceof String;
+            if (!(entry.getKey() instanceof String) || !stringValue) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object[] snapshotOf(Object[] arguments) {
+        if (arguments == null) {
+            return null;
+        }
+        Object[] snapshot = arguments.clone();
+        for (int i = 0; i < snapshot.length; i++) {
+            if (snapshot[i] instanceof Map) {
+                snapshot[i] = Collections.unmodifiableMap(new LinkedHashMap<>((Map<?, ?>) snapshot[i]));
+            }
+        }
+        return snapshot;
+    }
+
+    public StepListener getListener() {
+        return listener;
+    }
+
+    public String getName() {
+        return method.getName();
+    }
+
+    @Override
+    public void run() {
+        try {
+            method.invoke(listener, arguments);
+        } catch (InvocationTargetException e) {
+            throw new StepListenerException(this, e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new StepListenerException(this, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return listener.getClass().getSimpleName() + "." + method.getName();
+    }
+}
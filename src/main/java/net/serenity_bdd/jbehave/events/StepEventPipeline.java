@@ -0,0 +1,285 @@
+package net.serenity_bdd.jbehave.events;
+
+import net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties;
+import net.serenity_bdd.jbehave.reflection.Extract;
+import net.thucydides.core.steps.BaseStepListener;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepListener;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Delivers step events to the Serenity listeners on a dedicated dispatcher thread rather than on the test thread,
+ * so that the time spent logging and reporting is no longer added to each step.
+ * Events are queued in a bounded queue, in the order the event bus sends them, and delivered in that order by a
+ * single thread; when the queue is full the test thread waits. Calls that carry a test outcome or another object
+ * the test thread keeps changing are not queued: they are delivered on the test thread, once the events queued
+ * before them have been (see {@link ListenerEvent}). The reporter flushes the queue at the end of each story, and
+ * stops the dispatcher thread before generating the reports.
+ * <p>
+ * A listener that fails no longer fails the step it was called from, since the step has usually moved on by the
+ * time the event is delivered. The failure is logged, the following events are still delivered, and the first
+ * failure of the events queued by a thread is rethrown as a {@link StepListenerException} by the next call to
+ * {@link #flush()} on that thread (so by the end of the story at the latest). Failures that no flush has reported
+ * are rethrown by {@link #stop()}.
+ * <p>
+ * The BaseStepListener is always called synchronously: the event bus and the step libraries read the state of the
+ * current test from it (to skip the steps after a failure, for instance), and it takes the screenshots, which
+ * have to show the page as it was when the step finished.
+ */
+public class StepEventPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepEventPipeline.class);
+
+    public static final int DEFAULT_QUEUE_SIZE = 4096;
+
+    private final boolean enabled;
+    private final BlockingQueue<Runnable> queue;
+    private final ConcurrentMap<Thread, RuntimeException> listenerFailures = new ConcurrentHashMap<>();
+    private Thread dispatcher;
+
+    StepEventPipeline(boolean enabled, int queueSize) {
+        this.enabled = enabled;
+        this.queue = enabled ? new ArrayBlockingQueue<Runnable>(queueSize) : null;
+    }
+
+    public static StepEventPipeline configuredBy(EnvironmentVariables environmentVariables) {
+        boolean enabled = environmentVariables.getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.ASYNC_LISTENERS.getName(), false);
+        int queueSize = environmentVariables.getPropertyAsInteger(
+                SerenityJBehaveSystemProperties.ASYNC_LISTENER_QUEUE_SIZE.getName(), DEFAULT_QUEUE_SIZE);
+        return new StepEventPipeline(enabled, Math.max(1, queueSize));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Route all the listeners registered on the event bus of the current thread, apart from the BaseStepListener,
+     * through this pipeline. Listeners are left as they are if the event bus does not expose them.
+     */
+    @SuppressWarnings("unchecked")
+    public void attachTo(StepEventBus eventBus) {
+        if (!enabled) {
+            return;
+        }
+        List<StepListener> listeners = (List<StepListener>) Extract.field("registeredListeners").from(eventBus);
+        if (listeners == null) {
+            LOGGER.warn("Could not find the step listeners: events will be delivered synchronously");
+            return;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            StepListener listener = listeners.get(i);
+            if (!(listener instanceof BaseStepListener) && !isAsynchronous(listener)) {
+                listeners.set(i, asynchronous(listener));
+            }
+        }
+    }
+
+    /**
+     * A listener that queues each event for the given listener, to be delivered on the dispatcher thread.
+     */
+    public StepListener asynchronous(StepListener listener) {
+        if (!enabled) {
+            return listener;
+        }
+        return (StepListener) Proxy.newProxyInstance(StepListener.class.getClassLoader(),
+                                                     new Class<?>[]{StepListener.class},
+                                                     new QueueingHandler(listener));
+    }
+
+    /**
+     * Wait until every event queued so far has been delivered, then rethrow the first listener failure caused by
+     * the events this thread queued since its last flush.
+     */
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        awaitDelivery();
+        rethrowIfFailed(listenerFailures.remove(Thread.currentThread()));
+    }
+
+    /**
+     * Deliver the events queued so far and stop the dispatcher thread; it is started again if more events are
+     * queued. Rethrows a listener failure that no flush has reported yet.
+     */
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        awaitDelivery();
+        stopDispatcher();
+        RuntimeException failure = listenerFailures.remove(Thread.currentThread());
+        for (Thread thread : listenerFailures.keySet()) {
+            RuntimeException otherFailure = listenerFailures.remove(thread);
+            if (failure == null) {
+                failure = otherFailure;
+            }
+        }
+        rethrowIfFailed(failure);
+    }
+
+    private void rethrowIfFailed(RuntimeException failure) {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void awaitDelivery() {
+        if (!dispatcherStarted()) {
+            return;
+        }
+        final CountDownLatch delivered = new CountDownLatch(1);
+        enqueue(new Runnable() {
+            @Override
+            public void run() {
+                delivered.countDown();
+            }
+        });
+        try {
+            delivered.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isAsynchronous(StepListener listener) {
+        return Proxy.isProxyClass(listener.getClass())
+               && Proxy.getInvocationHandler(listener) instanceof QueueingHandler;
+    }
+
+    private void enqueue(Runnable event) {
+        startDispatcher();
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while queueing {}: delivering it on the test thread", event);
+            event.run();
+        }
+    }
+
+    private synchronized boolean dispatcherStarted() {
+        return dispatcher != null;
+    }
+
+    private void stopDispatcher() {
+        Thread stoppedDispatcher;
+        synchronized (this) {
+            stoppedDispatcher = dispatcher;
+            dispatcher = null;
+        }
+        if (stoppedDispatcher != null) {
+            stoppedDispatcher.interrupt();
+            try {
+                stoppedDispatcher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private synchronized void startDispatcher() {
+        if (dispatcher == null) {
+            dispatcher = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    dispatchEvents();
+                }
+            }, "serenity-jbehave-step-events");
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+        }
+    }
+
+    private void dispatchEvents() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                queue.take().run();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A listener event, delivered on the dispatcher thread, whose failure is reported back to the thread that
+     * queued it.
+     */
+    private class Delivery implements Runnable {
+
+        private final ListenerEvent event;
+        private final Thread origin;
+
+        Delivery(ListenerEvent event, Thread origin) {
+            this.event = event;
+            this.origin = origin;
+        }
+
+        @Override
+        public void run() {
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn(e.getMessage(), e.getCause());
+                listenerFailures.putIfAbsent(origin, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return event.toString();
+        }
+    }
+
+    private class QueueingHandler implements InvocationHandler {
+
+        private final StepListener listener;
+
+        QueueingHandler(StepListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, arguments);
+            }
+            if (method.getReturnType() != Void.TYPE || !ListenerEvent.canCapture(arguments)) {
+                flush();
+                try {
+                    return method.invoke(listener, arguments);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            enqueue(new Delivery(new ListenerEvent(listener, method, arguments), Thread.currentThread()));
+            return null;
+        }
+
+        private Object objectMethod(Object proxy, Method method, Object[] arguments) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "Asynchronous " + listener;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package net.serenity_bdd.jbehave.events;
+
+/**
+ * Thrown when a step listener fails to handle an event delivered by the {@link StepEventPipeline}.
+ */
+public class StepListenerException extends RuntimeException {
+
+    public StepListenerException(ListenerEvent event, Throwable cause) {
+        super("Step listener failed on " + event, cause);
+    }
+}
@@ -0,0 +1,238 @@
+package net.serenity_bdd.jbehave.examples;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A CSV or TSV file, memory-mapped and read one row at a time.
+ * Opening the file only records where each row starts and ends; the values of a row are decoded when it is asked for,
+ * so only the row offsets and the row being executed are held on the heap.
+ * The first non-blank line holds the column headers. CSV values may be quoted with double quotes
+ * (use "" for a literal quote); unquoted values are trimmed. Files are expected to be UTF-8.
+ * Closing the file drops the mapping, which Java releases when the buffer is collected; the row index is kept, and
+ * the file is mapped again if a row is asked for after it was closed.
+ */
+public class DelimitedDataFile implements Closeable {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final char QUOTE = '"';
+    private static final String BYTE_ORDER_MARK = "\ufeff";
+
+    private final File file;
+    private final char separator;
+    private final boolean quotedValues;
+    private ByteBuffer data;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final int lineCount;
+    private final List<String> headers;
+
+    private DelimitedDataFile(File file, char separator, boolean quotedValues, ByteBuffer data) {
+        this.file = file;
+        this.separator = separator;
+        this.quotedValues = quotedValues;
+        this.data = data;
+
+        LineIndex index = new LineIndex();
+        index.scan(data, separator, quotedValues);
+        this.lineStarts = index.starts;
+        this.lineEnds = index.ends;
+        this.lineCount = index.count;
+        this.headers = (lineCount == 0) ? ImmutableList.<String>of() : ImmutableList.copyOf(valuesInLine(0));
+    }
+
+    public static DelimitedDataFile csv(File file) throws IOException {
+        return new DelimitedDataFile(file, ',', true, map(file));
+    }
+
+    public static DelimitedDataFile tsv(File file) throws IOException {
+        return new DelimitedDataFile(file, '\t', false, map(file));
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Example data files larger than 2 GB are not supported: " + file);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        data = null;
+    }
+
+    private synchronized ByteBuffer data() {
+        if (data == null) {
+            try {
+                data = map(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read example data from " + file, e);
+            }
+        }
+        return data;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public int getRowCount() {
+        return Math.max(lineCount - 1, 0);
+    }
+
+    /**
+     * The values of the given data row (not counting the header line), keyed by column header.
+     * Missing trailing values are empty; values beyond the last header are ignored.
+     */
+    public Map<String, String> getRow(int row) {
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException("No row " + row + " in " + file + " (" + getRowCount() + " rows)");
+        }
+        List<String> values = valuesInLine(row + 1);
+        Map<String, String> rowValues = new LinkedHashMap<>();
+        for (int column = 0; column < headers.size(); column++) {
+            rowValues.put(headers.get(column), column < values.size() ? values.get(column) : "");
+        }
+        return rowValues;
+    }
+
+    private List<String> valuesInLine(int line) {
+        byte[] bytes = new byte[lineEnds[line] - lineStarts[line]];
+        ByteBuffer lineData = data().duplicate();
+        lineData.position(lineStarts[line]);
+        lineData.get(bytes);
+        String text = new String(bytes, UTF_8);
+        if (line == 0 && text.startsWith(BYTE_ORDER_MARK)) {
+            text = text.substring(1);
+        }
+        return split(text);
+    }
+
+    private List<String> split(String line) {
+        ImmutableList.Builder<String> values = ImmutableList.builder();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (inQuotes) {
+                if (character == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else if (character == QUOTE) {
+                    inQuotes = false;
+                } else {
+                    value.append(character);
+                }
+            } else if (character == separator) {
+                values.add(quoted ? value.toString() : value.toString().trim());
+                value.setLength(0);
+                quoted = false;
+            } else if (quotedValues && character == QUOTE && value.toString().trim().isEmpty()) {
+                value.setLength(0);
+                inQuotes = true;
+                quoted = true;
+            } else if (!quoted) {
+                value.append(character);
+            }
+        }
+        values.add(quoted ? value.toString() : value.toString().trim());
+        return values.build();
+    }
+
+    /**
+     * Records the start and end of each non-blank line, leaving out line terminators.
+     * Line breaks inside quoted CSV values do not end a line. A quote only opens a quoted value where
+     * {@link #split(String)} would treat it that way: at the start of a value, before anything but whitespace.
+     */
+    private static class LineIndex {
+        int[] starts = new int[1024];
+        int[] ends = new int[1024];
+        int count = 0;
+
+        void scan(ByteBuffer data, char separator, boolean quotedValues) {
+            int size = data.limit();
+            int lineStart = 0;
+            boolean inQuotes = false;
+            boolean quoted = false;
+            boolean valueHasContent = false;
+            boolean blank = true;
+            for (int position = 0; position < size; position++) {
+                byte current = data.get(position);
+                if (inQuotes) {
+                    if (current == QUOTE && position + 1 < size && data.get(position + 1) == QUOTE) {
+                        valueHasContent = true;
+                        position++;
+                    } else if (current == QUOTE) {
+                        inQuotes = false;
+                    } else if (!isWhitespace(current)) {
+                        valueHasContent = true;
+                    }
+                    blank = false;
+                } else if (current == '\n') {
+                    addLine(data, lineStart, position, blank);
+                    lineStart = position + 1;
+                    blank = true;
+                    quoted = false;
+                    valueHasContent = false;
+                } else {
+                    if (current == separator) {
+                        quoted = false;
+                        valueHasContent = false;
+                    } else if (quotedValues && current == QUOTE && !valueHasContent) {
+                        inQuotes = true;
+                        quoted = true;
+                    } else if (!quoted && !isWhitespace(current)) {
+                        valueHasContent = true;
+                    }
+                    if (current != ' ' && current != '\t' && current != '\r') {
+                        blank = false;
+                    }
+                }
+            }
+            addLine(data, lineStart, size, blank);
+        }
+
+        /**
+         * The same characters that {@link String#trim()} removes; bytes of multi-byte UTF-8 characters never match.
+         */
+        private static boolean isWhitespace(byte current) {
+            return current >= 0 && current <= ' ';
+        }
+
+        private void addLine(ByteBuffer data, int start, int end, boolean blank) {
+            if (blank) {
+                return;
+            }
+            if (end > start && data.get(end - 1) == '\r') {
+                end--;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package net.serenity_bdd.jbehave.examples;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.steps.ConvertedParameters;
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.Parameters;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An examples table whose rows live in an external CSV or TSV file rather than in the story itself, e.g.
+ * <pre>
+ *     Examples:
+ *     data/pricing-regression.csv
+ * </pre>
+ * The file is looked up on the classpath, then on the file system. Rows are read from the memory-mapped file when
+ * JBehave or the reporter asks for them, so the whole table is never held on the heap. The reporter closes the table
+ * once its examples have run, to let go of the mapping; the file is mapped again if the table is used later.
+ * The rows are read-only: {@link #withRows(List)} and {@link #withRowValues(int, Map)} throw an
+ * {@link UnsupportedOperationException}, so table transformers and steps that rewrite example rows cannot be used
+ * with an external table.
+ */
+public class ExternalExamplesTable extends ExamplesTable implements Closeable {
+
+    private final String source;
+    private final DelimitedDataFile dataFile;
+    private final ParameterConverters parameterConverters;
+    private final Map<String, String> namedParameters = new HashMap<>();
+
+    public ExternalExamplesTable(String source, DelimitedDataFile dataFile) {
+        this(source, dataFile, new ParameterConverters());
+    }
+
+    public ExternalExamplesTable(String source, DelimitedDataFile dataFile, ParameterConverters parameterConverters) {
+        super("");
+        this.source = source;
+        this.dataFile = dataFile;
+        this.parameterConverters = parameterConverters;
+    }
+
+    public static boolean isReference(String input) {
+        String path = input.trim().toLowerCase();
+        return (path.endsWith(".csv") || path.endsWith(".tsv")) && !path.contains("\n") && !path.startsWith("|");
+    }
+
+    public static ExternalExamplesTable fromResource(String path) {
+        return fromResource(path, new ParameterConverters());
+    }
+
+    public static ExternalExamplesTable fromResource(String path, ParameterConverters parameterConverters) {
+        String resourcePath = path.trim();
+        try {
+            File file = fileFor(resourcePath);
+            DelimitedDataFile dataFile = resourcePath.toLowerCase().endsWith(".tsv")
+                    ? DelimitedDataFile.tsv(file) : DelimitedDataFile.csv(file);
+            return new ExternalExamplesTable(resourcePath, dataFile, parameterConverters);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read example data from " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Resources that are not plain files (e.g. inside a jar) are copied to a temporary file so they can be mapped.
+     */
+    private static File fileFor(String resourcePath) throws IOException {
+        URL resource = classLoader().getResource(resourcePath);
+        if (resource == null) {
+            File file = new File(resourcePath);
+            if (!file.exists()) {
+                throw new IOException("No example data file found on the classpath or file system at " + resourcePath);
+            }
+            return file;
+        }
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return new File(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        File copy = File.createTempFile("examples", resourcePath.substring(resourcePath.lastIndexOf('.')));
+        copy.deleteOnExit();
+        try (InputStream stream = resource.openStream()) {
+            FileUtils.copyInputStreamToFile(stream, copy);
+        }
+        return copy;
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return (contextClassLoader != null) ? contextClassLoader : ExternalExamplesTable.class.getClassLoader();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public List<String> getHeaders() {
+        return dataFile.getHeaders();
+    }
+
+    @Override
+    public int getRowCount() {
+        return dataFile.getRowCount();
+    }
+
+    @Override
+    public Map<String, String> getRow(int row) {
+        return dataFile.getRow(row);
+    }
+
+    /**
+     * A read-only view of the rows; each row is decoded from the file when it is fetched.
+     */
+    @Override
+    public List<Map<String, String>> getRows() {
+        return new AbstractList<Map<String, String>>() {
+            @Override
+            public Map<String, String> get(int row) {
+                return dataFile.getRow(row);
+            }
+
+            @Override
+            public int size() {
+                return dataFile.getRowCount();
+            }
+        };
+    }
+
+    @Override
+    public Parameters getRowAsParameters(int row) {
+        return getRowAsParameters(row, false);
+    }
+
+    @Override
+    public Parameters getRowAsParameters(int row, boolean replaceNamedParameters) {
+        Map<String, String> values = dataFile.getRow(row);
+        return new ConvertedParameters(replaceNamedParameters ? withNamedParametersIn(values) : values,
+                                       parameterConverters);
+    }
+
+    @Override
+    public List<Parameters> getRowsAsParameters() {
+        return getRowsAsParameters(false);
+    }
+
+    /**
+     * Decodes every row, so this holds the whole table on the heap; prefer {@link #getRowAsParameters(int)}.
+     */
+    @Override
+    public List<Parameters> getRowsAsParameters(boolean replaceNamedParameters) {
+        List<Parameters> rows = new ArrayList<>();
+        for (int row = 0; row < getRowCount(); row++) {
+            rows.add(getRowAsParameters(row, replaceNamedParameters));
+        }
+        return rows;
+    }
+
+    @Override
+    public ExamplesTable withNamedParameters(Map<String, String> namedParameters) {
+        this.namedParameters.putAll(namedParameters);
+        return this;
+    }
+
+    /**
+     * The rows live in the data file, which is read-only.
+     */
+    @Override
+    public ExamplesTable withRowValues(int row, Map<String, String> values) {
+        throw new UnsupportedOperationException("Rows of the external examples table " + source + " cannot be changed");
+    }
+
+    @Override
+    public ExamplesTable withRows(List<Map<String, String>> values) {
+        throw new UnsupportedOperationException("Rows of the external examples table " + source + " cannot be changed");
+    }
+
+    private Map<String, String> withNamedParametersIn(Map<String, String> values) {
+        Map<String, String> replaced = new LinkedHashMap<>();
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            String replacedValue = value.getValue();
+            for (Map.Entry<String, String> namedParameter : namedParameters.entrySet()) {
+                replacedValue = replacedValue.replace("<" + namedParameter.getKey() + ">", namedParameter.getValue());
+            }
+            replaced.put(value.getKey(), replacedValue);
+        }
+        return replaced;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return dataFile.getRowCount() == 0;
+    }
+
+    @Override
+    public String asString() {
+        return source;
+    }
+
+    @Override
+    public void close() {
+        dataFile.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ExternalExamplesTable(" + source + ", " + getRowCount() + " rows)";
+    }
+}
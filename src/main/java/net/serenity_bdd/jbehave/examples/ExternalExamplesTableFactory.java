@@ -0,0 +1,33 @@
+package net.serenity_bdd.jbehave.examples;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.steps.ParameterConverters;
+
+/**
+ * Creates an {@link ExternalExamplesTable} when an Examples section refers to a .csv or .tsv file,
+ * and a standard JBehave examples table otherwise.
+ */
+public class ExternalExamplesTableFactory extends ExamplesTableFactory {
+
+    private final ParameterConverters parameterConverters;
+
+    public ExternalExamplesTableFactory(Keywords keywords,
+                                        ResourceLoader resourceLoader,
+                                        ParameterConverters parameterConverters,
+                                        TableTransformers tableTransformers) {
+        super(keywords, resourceLoader, parameterConverters, tableTransformers);
+        this.parameterConverters = parameterConverters;
+    }
+
+    @Override
+    public ExamplesTable createExamplesTable(String input) {
+        if (ExternalExamplesTable.isReference(input)) {
+            return ExternalExamplesTable.fromResource(input, parameterConverters);
+        }
+        return super.createExamplesTable(input);
+    }
+}
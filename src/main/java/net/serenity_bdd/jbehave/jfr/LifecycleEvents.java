@@ -0,0 +1,63 @@
+package net.serenity_bdd.jbehave.jfr;
+
+import java.util.Map;
+
+/**
+ * Receives the story, scenario, example and step lifecycle from the reporter, so that it can be published as
+ * Java Flight Recorder events. The flight recorder implementation is built separately, only when the jdk.jfr API
+ * is available, and is loaded reflectively: on other JVMs, and for the reporter, this does nothing.
+ */
+public class LifecycleEvents {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String PENDING = "pending";
+    public static final String IGNORED = "ignored";
+
+    private static final String FLIGHT_RECORDER_EVENTS = "net.serenity_bdd.jbehave.jfr.FlightRecorderLifecycleEvents";
+
+    private static final LifecycleEvents INSTANCE = loadLifecycleEvents();
+
+    public static LifecycleEvents get() {
+        return INSTANCE;
+    }
+
+    private static LifecycleEvents loadLifecycleEvents() {
+        try {
+            return (LifecycleEvents) Class.forName(FLIGHT_RECORDER_EVENTS).newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new LifecycleEvents();
+        }
+    }
+
+    public void storyStarted(String storyPath) {
+    }
+
+    public void storyFinished() {
+    }
+
+    public void scenarioStarted(String scenarioTitle) {
+    }
+
+    public void scenarioFinished() {
+    }
+
+    /**
+     * Also marks the end of the previous example of the scenario, if any.
+     */
+    public void exampleStarted(Map<String, String> tableRow) {
+    }
+
+    public void examplesFinished() {
+    }
+
+    public void stepStarted(String step) {
+    }
+
+    /**
+     * @param stepTitle the step title as reported by JBehave, with its parameter values marked
+     * @param outcome   one of the outcome constants defined here
+     */
+    public void stepFinished(String stepTitle, String outcome) {
+    }
+}
@@ -0,0 +1,105 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+import org.jbehave.core.model.Meta;
+
+/**
+ * A compiled metafilter expression: a tree of boolean operators over the properties of a {@link Meta}.
+ */
+public abstract class MetaExpression {
+
+    public abstract boolean matches(Meta meta);
+
+    static MetaExpression and(final MetaExpression left, final MetaExpression right) {
+        return new MetaExpression() {
+            @Override
+            public boolean matches(Meta meta) {
+                return left.matches(meta) && right.matches(meta);
+            }
+        };
+    }
+
+    static MetaExpression or(final MetaExpression left, final MetaExpression right) {
+        return new MetaExpression() {
+            @Override
+            public boolean matches(Meta meta) {
+                return left.matches(meta) || right.matches(meta);
+            }
+        };
+    }
+
+    static MetaExpression not(final MetaExpression expression) {
+        return new MetaExpression() {
+            @Override
+            public boolean matches(Meta meta) {
+                return !expression.matches(meta);
+            }
+        };
+    }
+
+    static MetaExpression equal(final Operand left, final Operand right) {
+        return new MetaExpression() {
+            @Override
+            public boolean matches(Meta meta) {
+                return left.valueIn(meta).equals(right.valueIn(meta));
+            }
+        };
+    }
+
+    static MetaExpression truthOf(final Operand operand) {
+        return new MetaExpression() {
+            @Override
+            public boolean matches(Meta meta) {
+                return operand.isTrueIn(meta);
+            }
+        };
+    }
+
+    /**
+     * A meta property, a string or a boolean literal.
+     */
+    abstract static class Operand {
+
+        abstract Object valueIn(Meta meta);
+
+        abstract boolean isTrueIn(Meta meta);
+
+        /**
+         * Takes the same values as in JBehave's Groovy matcher: false if the property is missing, true if it
+         * has no value (as in "@smoke"), and its value otherwise.
+         */
+        static Operand property(final String name) {
+            return new Operand() {
+                @Override
+                Object valueIn(Meta meta) {
+                    if (!meta.hasProperty(name)) {
+                        return Boolean.FALSE;
+                    }
+                    String value = meta.getProperty(name);
+                    return value.isEmpty() ? Boolean.TRUE : value;
+                }
+
+                /**
+                 * A property on its own stands for its presence, whatever its value.
+                 */
+                @Override
+                boolean isTrueIn(Meta meta) {
+                    return meta.hasProperty(name);
+                }
+            };
+        }
+
+        static Operand literal(final Object value) {
+            return new Operand() {
+                @Override
+                Object valueIn(Meta meta) {
+                    return value;
+                }
+
+                @Override
+                boolean isTrueIn(Meta meta) {
+                    return (value instanceof Boolean) ? (Boolean) value : !value.toString().isEmpty();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+import net.serenity_bdd.jbehave.metafilters.MetaExpression.Operand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the boolean subset of the Groovy metafilter syntax: <code>&amp;&amp;</code>, <code>||</code>,
+ * <code>!</code>, parentheses, meta property names, quoted strings, <code>true</code> and <code>false</code>,
+ * and the <code>==</code> and <code>!=</code> comparisons, e.g. <code>(smoke || env == 'uat') &amp;&amp; !skip</code>.
+ * Anything else is rejected with an {@link UnsupportedMetaExpressionException}.
+ */
+public class MetaExpressionParser {
+
+    private final List<String> tokens;
+    private int position = 0;
+
+    private MetaExpressionParser(String expression) {
+        this.tokens = tokenize(expression);
+    }
+
+    public static MetaExpression compile(String expression) {
+        MetaExpressionParser parser = new MetaExpressionParser(expression);
+        if (parser.tokens.isEmpty()) {
+            throw new UnsupportedMetaExpressionException("Empty expression");
+        }
+        MetaExpression compiled = parser.orExpression();
+        if (parser.position < parser.tokens.size()) {
+            throw new UnsupportedMetaExpressionException("Unexpected '" + parser.peek() + "' in " + expression);
+        }
+        return compiled;
+    }
+
+    private MetaExpression orExpression() {
+        MetaExpression expression = andExpression();
+        while (nextIs("||")) {
+            expression = MetaExpression.or(expression, andExpression());
+        }
+        return expression;
+    }
+
+    private MetaExpression andExpression() {
+        MetaExpression expression = unaryExpression();
+        while (nextIs("&&")) {
+            expression = MetaExpression.and(expression, unaryExpression());
+        }
+        return expression;
+    }
+
+    private MetaExpression unaryExpression() {
+        if (nextIs("!")) {
+            return MetaExpression.not(unaryExpression());
+        }
+        if (nextIs("(")) {
+            MetaExpression expression = orExpression();
+            if (!nextIs(")")) {
+                throw new UnsupportedMetaExpressionException("Missing closing parenthesis");
+            }
+            return expression;
+        }
+        Operand left = operand();
+        if (nextIs("==")) {
+            return MetaExpression.equal(left, operand());
+        }
+        if (nextIs("!=")) {
+            return MetaExpression.not(MetaExpression.equal(left, operand()));
+        }
+        return MetaExpression.truthOf(left);
+    }
+
+    private Operand operand() {
+        String token = next();
+        if (token.equals("true") || token.equals("false")) {
+            return Operand.literal(Boolean.valueOf(token));
+        }
+        if (token.startsWith("'") || token.startsWith("\"")) {
+            return Operand.literal(token.substring(1, token.length() - 1));
+        }
+        if (isIdentifier(token)) {
+            return Operand.property(token);
+        }
+        throw new UnsupportedMetaExpressionException("Unexpected '" + token + "'");
+    }
+
+    private boolean nextIs(String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private String next() {
+        if (position >= tokens.size()) {
+            throw new UnsupportedMetaExpressionException("Unexpected end of expression");
+        }
+        return tokens.get(position++);
+    }
+
+    private static boolean isIdentifier(String token) {
+        if (!Character.isJavaIdentifierStart(token.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < token.length(); i++) {
+            if (!Character.isJavaIdentifierPart(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escapes and (in double quotes) interpolation are left to Groovy.
+     */
+    private static boolean isPlainString(String string) {
+        return string.indexOf('\\') < 0 && string.indexOf('$') < 0;
+    }
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (expression.startsWith("&&", i) || expression.startsWith("||", i)
+                       || expression.startsWith("==", i) || expression.startsWith("!=", i)) {
+                tokens.add(expression.substring(i, i + 2));
+                i += 2;
+            } else if (c == '!' || c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '\'' || c == '"') {
+                int end = expression.indexOf(c, i + 1);
+                if (end < 0 || !isPlainString(expression.substring(i, end))) {
+                    throw new UnsupportedMetaExpressionException("Unsupported string in " + expression);
+                }
+                tokens.add(expression.substring(i, end + 1));
+                i = end + 1;
+            } else if (Character.isJavaIdentifierPart(c)) {
+                int end = i;
+                while (end < expression.length() && Character.isJavaIdentifierPart(expression.charAt(end))) {
+                    end++;
+                }
+                tokens.add(expression.substring(i, end));
+                i = end;
+            } else {
+                throw new UnsupportedMetaExpressionException("Unsupported character '" + c + "' in " + expression);
+            }
+        }
+        return tokens;
+    }
+}
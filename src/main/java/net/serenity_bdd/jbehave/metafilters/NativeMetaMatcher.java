@@ -0,0 +1,66 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+import com.google.common.collect.ImmutableMap;
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.embedder.MetaFilter.MetaMatcher;
+import org.jbehave.core.model.Meta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Matches "groovy:" metafilters without Groovy when they only use the operators known to the
+ * {@link MetaExpressionParser}. Each expression is compiled once; JBehave's Groovy matcher evaluates the script
+ * again for every story and scenario. Other expressions are still evaluated by Groovy.
+ */
+public class NativeMetaMatcher implements MetaMatcher {
+
+    public static final String GROOVY_PREFIX = "groovy:";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NativeMetaMatcher.class);
+
+    private static final ConcurrentMap<String, MetaExpression> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private volatile MetaExpression expression;
+    private volatile MetaFilter groovyFilter;
+
+    /**
+     * The meta matchers to give JBehave so that groovy metafilters are evaluated natively.
+     */
+    public static Map<String, MetaMatcher> metaMatchers() {
+        return ImmutableMap.<String, MetaMatcher>of(GROOVY_PREFIX, new NativeMetaMatcher());
+    }
+
+    @Override
+    public void parse(String filterAsString) {
+        String expressionText = filterAsString.trim().startsWith(GROOVY_PREFIX)
+                ? filterAsString.trim().substring(GROOVY_PREFIX.length()).trim() : filterAsString.trim();
+        MetaExpression compiled = COMPILED_EXPRESSIONS.get(expressionText);
+        if (compiled == null) {
+            try {
+                compiled = MetaExpressionParser.compile(expressionText);
+                COMPILED_EXPRESSIONS.putIfAbsent(expressionText, compiled);
+            } catch (UnsupportedMetaExpressionException e) {
+                LOGGER.debug("Evaluating metafilter '{}' with Groovy ({})", expressionText, e.getMessage());
+                expression = null;
+                groovyFilter = new MetaFilter(GROOVY_PREFIX + " " + expressionText);
+                return;
+            }
+        }
+        groovyFilter = null;
+        expression = compiled;
+    }
+
+    @Override
+    public boolean match(Meta meta) {
+        MetaExpression compiled = expression;
+        return (compiled != null) ? compiled.matches(meta) : groovyFilter.allow(meta);
+    }
+
+    public boolean isNative() {
+        return expression != null;
+    }
+}
@@ -0,0 +1,12 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+/**
+ * Thrown when a metafilter expression uses something other than the operators the native engine knows about,
+ * so that it can be handed over to Groovy.
+ */
+public class UnsupportedMetaExpressionException extends RuntimeException {
+
+    public UnsupportedMetaExpressionException(String message) {
+        super(message);
+    }
+}
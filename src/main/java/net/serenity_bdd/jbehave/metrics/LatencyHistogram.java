@@ -0,0 +1,93 @@
+package net.serenity_bdd.jbehave.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, thread-safe latency histogram with log-linear buckets, in the style of HdrHistogram.
+ * Durations are recorded in microseconds. Values below 32 are counted exactly; above that, each power of two is
+ * split into 16 equal buckets, so any recorded value is known to within 1/16 (about 6%). Durations longer than
+ * 2^40 microseconds (about 12 days) are counted in the last bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int EXACT_VALUES = 32;
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = EXACT_VALUES + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long durationInNanos) {
+        record(TimeUnit.NANOSECONDS.toMicros(Math.max(0, durationInNanos)));
+    }
+
+    public void record(long durationInMicros) {
+        counts.incrementAndGet(bucketOf(durationInMicros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(durationInMicros);
+        long max = maxMicros.get();
+        while (durationInMicros > max && !maxMicros.compareAndSet(max, durationInMicros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * The highest value of the bucket holding the given percentile (between 0 and 100), never more than the
+     * highest value recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return EXACT_VALUES + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < EXACT_VALUES) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT_VALUES) / SUB_BUCKETS + 1;
+        long top = (bucket - EXACT_VALUES) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,144 @@
+package net.serenity_bdd.jbehave.metrics;
+
+import net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency distributions of the steps, stories and phases of a test run, shared by all the reporters in the JVM.
+ * Steps are grouped by their title with the parameter values left out, so that all the executions of a step
+ * definition end up in the same histogram.
+ * Timings are only recorded when the step.timings property is set, and are written to the output directory
+ * at the end of each run, both as JSON and in the OpenMetrics text format.
+ */
+public class StepTimings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepTimings.class);
+
+    public static final String JSON_REPORT = "step-timings.json";
+    public static final String OPENMETRICS_REPORT = "step-timings.txt";
+
+    public enum Phase {
+        /**
+         * Initializing the Serenity WebDriver support for a story and taking a pooled session if pooling is on.
+         * Serenity only opens the browser when a step first uses the driver, so that time counts towards the step.
+         */
+        DRIVER_SUPPORT_INITIALIZATION,
+        STEP_EXECUTION,
+        STEP_REPORTING,
+        REPORT_GENERATION;
+
+        public String getName() {
+            return toString().toLowerCase();
+        }
+    }
+
+    private static final StepTimings RECORDED_TIMINGS = new StepTimings(true);
+    private static final StepTimings IGNORED_TIMINGS = new StepTimings(false);
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<String, LatencyHistogram> phases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> stories = new ConcurrentHashMap<>();
+
+    StepTimings(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static StepTimings configuredBy(EnvironmentVariables environmentVariables) {
+        return environmentVariables.getPropertyAsBoolean(SerenityJBehaveSystemProperties.STEP_TIMINGS.getName(), false)
+                ? RECORDED_TIMINGS : IGNORED_TIMINGS;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A start time to pass to the record methods, or 0 if timings are not being recorded.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void recordPhase(Phase phase, long startTime) {
+        record(phases, phase.getName(), startTime);
+    }
+
+    public void recordStep(String stepPattern, long startTime) {
+        record(steps, stepPattern, startTime);
+        recordPhase(Phase.STEP_EXECUTION, startTime);
+    }
+
+    public void recordStory(String storyPath, long startTime) {
+        record(stories, storyPath, startTime);
+    }
+
+    public Map<String, LatencyHistogram> getPhases() {
+        return sorted(phases);
+    }
+
+    public Map<String, LatencyHistogram> getSteps() {
+        return sorted(steps);
+    }
+
+    public Map<String, LatencyHistogram> getStories() {
+        return sorted(stories);
+    }
+
+    public void clear() {
+        phases.clear();
+        steps.clear();
+        stories.clear();
+    }
+
+    public void writeTo(File outputDirectory) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(outputDirectory.toPath());
+            write(new File(outputDirectory, JSON_REPORT), StepTimingsFormat.JSON);
+            write(new File(outputDirectory, OPENMETRICS_REPORT), StepTimingsFormat.OPENMETRICS);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the step timings to {} ({})", outputDirectory, e.getMessage());
+        }
+    }
+
+    private void write(File report, StepTimingsFormat format) throws IOException {
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(report.toPath()), StandardCharsets.UTF_8)) {
+            format.write(this, writer);
+        }
+    }
+
+    private void record(ConcurrentMap<String, LatencyHistogram> histograms, String name, long startTime) {
+        if (!enabled || startTime == 0) {
+            return;
+        }
+        long duration = System.nanoTime() - startTime;
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histograms.putIfAbsent(name, new LatencyHistogram());
+            histogram = histograms.get(name);
+        }
+        histogram.recordNanos(duration);
+    }
+
+    private SortedMap<String, LatencyHistogram> sorted(Map<String, LatencyHistogram> histograms) {
+        return new TreeMap<>(histograms);
+    }
+}
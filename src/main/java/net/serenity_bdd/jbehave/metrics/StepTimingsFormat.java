@@ -0,0 +1,114 @@
+package net.serenity_bdd.jbehave.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The file formats the step timings are written in.
+ */
+public enum StepTimingsFormat {
+
+    /**
+     * One object per group (phases, steps and stories), keyed by name, with durations in milliseconds.
+     */
+    JSON {
+        @Override
+        public void write(StepTimings timings, Writer writer) throws IOException {
+            writer.write("{\n");
+            writeGroup(writer, "phases", timings.getPhases());
+            writer.write(",\n");
+            writeGroup(writer, "steps", timings.getSteps());
+            writer.write(",\n");
+            writeGroup(writer, "stories", timings.getStories());
+            writer.write("\n}\n");
+        }
+
+        private void writeGroup(Writer writer, String group, Map<String, LatencyHistogram> histograms)
+                throws IOException {
+            writer.write("  " + quoted(group) + ": {");
+            String separator = "\n";
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                writer.write(separator + "    " + quoted(entry.getKey()) + ": {"
+                             + "\"count\": " + histogram.getCount()
+                             + ", \"total_ms\": " + millis(histogram.getTotalMicros())
+                             + ", \"max_ms\": " + millis(histogram.getMaxMicros()));
+                for (int i = 0; i < QUANTILES.length; i++) {
+                    writer.write(", \"" + QUANTILE_NAMES[i] + "_ms\": "
+                                 + millis(histogram.getValueAtPercentile(QUANTILES[i] * 100)));
+                }
+                writer.write("}");
+                separator = ",\n";
+            }
+            writer.write(histograms.isEmpty() ? "}" : "\n  }");
+        }
+
+        private String quoted(String value) {
+            StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char character = value.charAt(i);
+                if (character == '"' || character == '\\') {
+                    quoted.append('\\').append(character);
+                } else if (character < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) character));
+                } else {
+                    quoted.append(character);
+                }
+            }
+            return quoted.append('"').toString();
+        }
+
+        private String millis(long micros) {
+            return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+        }
+    },
+
+    /**
+     * Summaries in the OpenMetrics text exposition format, with durations in seconds.
+     */
+    OPENMETRICS {
+        @Override
+        public void write(StepTimings timings, Writer writer) throws IOException {
+            writeSummary(writer, "jbehave_phase_duration_seconds", "phase",
+                         "Time spent in each phase of the test run.", timings.getPhases());
+            writeSummary(writer, "jbehave_step_duration_seconds", "step",
+                         "Time spent executing each step, by step title without parameter values.",
+                         timings.getSteps());
+            writeSummary(writer, "jbehave_story_duration_seconds", "story",
+                         "Time spent running each story.", timings.getStories());
+            writer.write("# EOF\n");
+        }
+
+        private void writeSummary(Writer writer, String metric, String label, String help,
+                                  Map<String, LatencyHistogram> histograms) throws IOException {
+            writer.write("# TYPE " + metric + " summary\n");
+            writer.write("# UNIT " + metric + " seconds\n");
+            writer.write("# HELP " + metric + " " + help + "\n");
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                String labelValue = label + "=\"" + escaped(entry.getKey()) + "\"";
+                LatencyHistogram histogram = entry.getValue();
+                for (double quantile : QUANTILES) {
+                    writer.write(metric + "{" + labelValue + ",quantile=\"" + quantile + "\"} "
+                                 + seconds(histogram.getValueAtPercentile(quantile * 100)) + "\n");
+                }
+                writer.write(metric + "_count{" + labelValue + "} " + histogram.getCount() + "\n");
+                writer.write(metric + "_sum{" + labelValue + "} " + seconds(histogram.getTotalMicros()) + "\n");
+            }
+        }
+
+        private String escaped(String labelValue) {
+            return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        private String seconds(long micros) {
+            return String.format(Locale.ROOT, "%.6f", micros / 1000000.0);
+        }
+    };
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    public abstract void write(StepTimings timings, Writer writer) throws IOException;
+}
@@ -0,0 +1,246 @@
+package net.serenity_bdd.jbehave.precompiled;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A story parsed ahead of time, in a compact binary form stored next to the story as a .storyc file.
+ * It holds the SHA-1 hash of the story text it was compiled from, a fingerprint of the keywords it was parsed with,
+ * the story header text, and the title, meta, given stories, steps and examples table text of each scenario.
+ * Turning it back into a story only needs the story header and the examples tables to be parsed.
+ */
+public class PrecompiledStory {
+
+    public static final String EXTENSION = ".storyc";
+
+    private static final int MAGIC_NUMBER = 0x53544f43;
+    private static final int FORMAT_VERSION = 2;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final byte[] sourceHash;
+    private final byte[] keywordsFingerprint;
+    private final String header;
+    private final List<PrecompiledScenario> scenarios;
+
+    private PrecompiledStory(byte[] sourceHash, byte[] keywordsFingerprint, String header,
+                             List<PrecompiledScenario> scenarios) {
+        this.sourceHash = sourceHash;
+        this.keywordsFingerprint = keywordsFingerprint;
+        this.header = header;
+        this.scenarios = scenarios;
+    }
+
+    /**
+     * Stories without scenarios are kept as text (in place of the header), as they are cheap to parse.
+     */
+    public static PrecompiledStory compile(String storyAsText, SerenityStoryParser parser) {
+        String header = parser.headerOf(storyAsText);
+        List<PrecompiledScenario> scenarios = new ArrayList<>();
+        for (SerenityStoryParser.ScenarioText scenarioText : parser.scenarioTextsIn(storyAsText)) {
+            scenarios.add(PrecompiledScenario.from(parser.parseScenarioWithoutExamples(scenarioText),
+                                                   scenarioText.getExamplesTable()));
+        }
+        byte[] keywordsFingerprint = fingerprintOf(parser.getKeywords());
+        return (header == null) ? new PrecompiledStory(hashOf(storyAsText), keywordsFingerprint, storyAsText, null)
+                                : new PrecompiledStory(hashOf(storyAsText), keywordsFingerprint, header, scenarios);
+    }
+
+    public boolean isCompiledFrom(String storyAsText) {
+        return Arrays.equals(sourceHash, hashOf(storyAsText));
+    }
+
+    /**
+     * A story precompiled with the keywords of another language splits into different scenarios and steps.
+     */
+    public boolean wasCompiledWith(Keywords keywords) {
+        return Arrays.equals(keywordsFingerprint, fingerprintOf(keywords));
+    }
+
+    public Story toStory(String storyPath, SerenityStoryParser parser) {
+        if (scenarios == null) {
+            return parser.parseStory(header, storyPath);
+        }
+        List<Scenario> storyScenarios = new ArrayList<>();
+        for (PrecompiledScenario scenario : scenarios) {
+            storyScenarios.add(scenario.toScenario(parser));
+        }
+        return parser.storyWith(storyPath, header, storyScenarios);
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(sourceHash.length);
+        output.write(sourceHash);
+        output.writeInt(keywordsFingerprint.length);
+        output.write(keywordsFingerprint);
+        writeString(output, header);
+        output.writeInt(scenarios == null ? -1 : scenarios.size());
+        if (scenarios != null) {
+            for (PrecompiledScenario scenario : scenarios) {
+                scenario.writeTo(output);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * @throws IOException if the data is not a precompiled story in the current format.
+     */
+    public static PrecompiledStory readFrom(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC_NUMBER || input.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a precompiled story, or compiled by a different version");
+        }
+        byte[] sourceHash = new byte[input.readInt()];
+        input.readFully(sourceHash);
+        byte[] keywordsFingerprint = new byte[input.readInt()];
+        input.readFully(keywordsFingerprint);
+        String header = readString(input);
+        int scenarioCount = input.readInt();
+        if (scenarioCount < 0) {
+            return new PrecompiledStory(sourceHash, keywordsFingerprint, header, null);
+        }
+        List<PrecompiledScenario> scenarios = new ArrayList<>(scenarioCount);
+        for (int i = 0; i < scenarioCount; i++) {
+            scenarios.add(PrecompiledScenario.readFrom(input));
+        }
+        return new PrecompiledStory(sourceHash, keywordsFingerprint, header, scenarios);
+    }
+
+    static byte[] hashOf(String storyAsText) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(storyAsText.getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The keywords that decide how a story is split into its header, scenarios, steps and examples.
+     */
+    static byte[] fingerprintOf(Keywords keywords) {
+        List<String> parsingKeywords = Arrays.asList(
+                keywords.meta(), keywords.metaProperty(), keywords.narrative(), keywords.inOrderTo(),
+                keywords.asA(), keywords.iWantTo(), keywords.soThat(), keywords.scenario(), keywords.givenStories(),
+                keywords.lifecycle(), keywords.before(), keywords.after(), keywords.examplesTable(),
+                keywords.given(), keywords.when(), keywords.then(), keywords.and(), keywords.ignorable());
+        StringBuilder joinedKeywords = new StringBuilder();
+        for (String keyword : parsingKeywords) {
+            joinedKeywords.append(keyword).append('\u0000');
+        }
+        return hashOf(joinedKeywords.toString());
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static class PrecompiledScenario {
+        private final String title;
+        private final Map<String, String> meta;
+        private final String givenStories;
+        private final List<String> steps;
+        private final String examplesTable;
+
+        private PrecompiledScenario(String title, Map<String, String> meta, String givenStories,
+                                    List<String> steps, String examplesTable) {
+            this.title = title;
+            this.meta = meta;
+            this.givenStories = givenStories;
+            this.steps = steps;
+            this.examplesTable = examplesTable;
+        }
+
+        static PrecompiledScenario from(Scenario scenario, String examplesTable) {
+            Map<String, String> meta = new LinkedHashMap<>();
+            for (String name : scenario.getMeta().getPropertyNames()) {
+                meta.put(name, scenario.getMeta().getProperty(name));
+            }
+            return new PrecompiledScenario(scenario.getTitle(), meta, scenario.getGivenStories().asString(),
+                                           new ArrayList<>(scenario.getSteps()), examplesTable);
+        }
+
+        Scenario toScenario(SerenityStoryParser parser) {
+            Properties properties = new Properties();
+            for (Map.Entry<String, String> property : meta.entrySet()) {
+                properties.setProperty(property.getKey(), property.getValue());
+            }
+            GivenStories scenarioGivenStories = new GivenStories(givenStories);
+            if (examplesTable == null && scenarioGivenStories.requireParameters()) {
+                scenarioGivenStories.useExamplesTable(ExamplesTable.EMPTY);
+            }
+            Scenario scenario = new Scenario(title, new Meta(properties), scenarioGivenStories,
+                                             ExamplesTable.EMPTY, new ArrayList<>(steps));
+            return parser.withExamples(scenario, examplesTable);
+        }
+
+        void writeTo(DataOutputStream output) throws IOException {
+            writeString(output, title);
+            output.writeInt(meta.size());
+            for (Map.Entry<String, String> property : meta.entrySet()) {
+                writeString(output, property.getKey());
+                writeString(output, property.getValue());
+            }
+            writeString(output, givenStories);
+            output.writeInt(steps.size());
+            for (String step : steps) {
+                writeString(output, step);
+            }
+            writeString(output, examplesTable);
+        }
+
+        static PrecompiledScenario readFrom(DataInputStream input) throws IOException {
+            String title = readString(input);
+            int metaCount = input.readInt();
+            Map<String, String> meta = new LinkedHashMap<>();
+            for (int i = 0; i < metaCount; i++) {
+                meta.put(readString(input), readString(input));
+            }
+            String givenStories = readString(input);
+            int stepCount = input.readInt();
+            List<String> steps = new ArrayList<>(stepCount);
+            for (int i = 0; i < stepCount; i++) {
+                steps.add(readString(input));
+            }
+            return new PrecompiledScenario(title, meta, givenStories, steps, readString(input));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.serenity_bdd.jbehave.precompiled;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+/**
+ * Uses the precompiled form of a story (see {@link StoryPrecompiler}) when one is found on the classpath next to
+ * the story and was compiled from the same story text with the same keywords. Otherwise the story text is parsed
+ * as usual.
+ */
+public class PrecompiledStoryParser implements StoryParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecompiledStoryParser.class);
+
+    private final SerenityStoryParser storyParser;
+
+    public PrecompiledStoryParser(SerenityStoryParser storyParser) {
+        this.storyParser = storyParser;
+    }
+
+    public Story parseStory(String storyAsText) {
+        return storyParser.parseStory(storyAsText);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        if (storyPath != null) {
+            PrecompiledStory precompiledStory = precompiledStoryFor(storyPath);
+            if (precompiledStory != null && precompiledStory.isCompiledFrom(storyAsText)
+                    && precompiledStory.wasCompiledWith(storyParser.getKeywords())) {
+                return precompiledStory.toStory(storyPath, storyParser);
+            }
+        }
+        return storyParser.parseStory(storyAsText, storyPath);
+    }
+
+    public static String precompiledPathFor(String storyPath) {
+        String pathWithoutExtension = storyPath.endsWith(".story")
+                ? storyPath.substring(0, storyPath.length() - ".story".length()) : storyPath;
+        return pathWithoutExtension + PrecompiledStory.EXTENSION;
+    }
+
+    private PrecompiledStory precompiledStoryFor(String storyPath) {
+        URL precompiledResource = classLoader().getResource(precompiledPathFor(storyPath));
+        if (precompiledResource == null) {
+            return null;
+        }
+        try (InputStream input = precompiledResource.openStream()) {
+            return PrecompiledStory.readFrom(input);
+        } catch (IOException e) {
+            LOGGER.debug("Ignoring precompiled story {} ({})", precompiledResource, e.getMessage());
+            return null;
+        }
+    }
+
+    private ClassLoader classLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return (contextClassLoader != null) ? contextClassLoader : PrecompiledStoryParser.class.getClassLoader();
+    }
+}
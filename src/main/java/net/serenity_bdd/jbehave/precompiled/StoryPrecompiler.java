@@ -0,0 +1,68 @@
+package net.serenity_bdd.jbehave.precompiled;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Precompiles every .story file under a directory into a .storyc file, in the same relative location under an
+ * output directory (by default, the same directory). Stories that cannot be precompiled are left to be parsed at
+ * run time. The build runs it over the processed test resources (precompileTestStories), and runs the tests again
+ * with the result on the classpath (precompiledStoriesTest), e.g.
+ * <pre>
+ *     java net.serenity_bdd.jbehave.precompiled.StoryPrecompiler build/resources/test build/precompiled-stories
+ * </pre>
+ */
+public class StoryPrecompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StoryPrecompiler.class);
+
+    private final SerenityStoryParser storyParser;
+
+    public StoryPrecompiler(SerenityStoryParser storyParser) {
+        this.storyParser = storyParser;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: StoryPrecompiler <story directory> [<output directory>]");
+            System.exit(1);
+        }
+        File storyDirectory = new File(args[0]);
+        File outputDirectory = new File(args.length > 1 ? args[1] : args[0]);
+        int precompiled = new StoryPrecompiler(new SerenityStoryParser()).precompile(storyDirectory, outputDirectory);
+        LOGGER.info("Precompiled {} stories from {} into {}", precompiled, storyDirectory, outputDirectory);
+    }
+
+    public int precompile(File storyDirectory, File outputDirectory) throws IOException {
+        int precompiled = 0;
+        String rootPath = storyDirectory.getCanonicalPath();
+        for (File storyFile : FileUtils.listFiles(storyDirectory, new String[]{"story"}, true)) {
+            String relativePath = storyFile.getCanonicalPath().substring(rootPath.length() + 1);
+            File precompiledFile = new File(outputDirectory, PrecompiledStoryParser.precompiledPathFor(relativePath));
+            try {
+                precompileStory(storyFile, precompiledFile);
+                precompiled++;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not precompile {}, it will be parsed at run time ({})", storyFile, e.getMessage());
+            }
+        }
+        return precompiled;
+    }
+
+    public void precompileStory(File storyFile, File precompiledFile) throws IOException {
+        String storyAsText = FileUtils.readFileToString(storyFile, "UTF-8");
+        PrecompiledStory precompiledStory = PrecompiledStory.compile(storyAsText, storyParser);
+        FileUtils.forceMkdir(precompiledFile.getParentFile());
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(precompiledFile))) {
+            precompiledStory.writeTo(output);
+        }
+    }
+}
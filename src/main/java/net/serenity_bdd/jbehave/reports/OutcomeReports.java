@@ -0,0 +1,33 @@
+package net.serenity_bdd.jbehave.reports;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.ReportGenerationFailedError;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.TestOutcomes;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Renders some of the outcomes of a run with the reporters of a report service, each against all the outcomes of
+ * the run, as the reports link to and count the other tests. ReportService.generateReportsFor() renders a list of
+ * outcomes against that same list only, so it cannot be used when the outcomes are rendered a few at a time.
+ */
+public class OutcomeReports {
+
+    public static void generateReportsFor(ReportService reportService, File outputDirectory,
+                                          Iterable<TestOutcome> testOutcomes, TestOutcomes allTestOutcomes) {
+        for (AcceptanceTestReporter reporter : reportService.getSubscribedReporters()) {
+            reporter.setOutputDirectory(outputDirectory);
+            for (TestOutcome testOutcome : testOutcomes) {
+                try {
+                    reporter.generateReportFor(testOutcome, allTestOutcomes);
+                } catch (IOException e) {
+                    throw new ReportGenerationFailedError("Failed to generate the " + reporter.getName()
+                                                          + " report for " + testOutcome.getTitle(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package net.serenity_bdd.jbehave.reports;
+
+import com.google.common.base.Supplier;
+import net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates the reports of a test run on a fork/join pool, rather than in a single call on the thread that finishes
+ * the run. The outcomes are split into batches, and each batch is rendered (JSON, XML and HTML reports, depending on
+ * the configured reporters) with the reporters of its own report service, so that batches share no reporter state.
+ * Every report is given all the outcomes of the run, as in a single call, since the reports link to and count the
+ * other tests.
+ * The pool size comes from the report.threads property; with a single thread, or only a few outcomes, the reports
+ * are generated in one call as before.
+ * <p>
+ * The aggregate pages (home page, tag and requirement pages) are not part of this: Serenity does not build them
+ * during the run, but afterwards, from the outcome files written here, in the separate aggregate step of the
+ * Serenity Maven or Gradle plugin.
+ */
+public class ParallelReportGenerator {
+
+    static final int MINIMUM_BATCH_SIZE = 20;
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final int threads;
+    private final File outputDirectory;
+    private final Supplier<ReportService> reportServices;
+
+    public ParallelReportGenerator(int threads, File outputDirectory, Supplier<ReportService> reportServices) {
+        this.threads = Math.max(1, threads);
+        this.outputDirectory = outputDirectory;
+        this.reportServices = reportServices;
+    }
+
+    public static ParallelReportGenerator configuredBy(EnvironmentVariables environmentVariables,
+                                                       File outputDirectory,
+                                                       Supplier<ReportService> reportServices) {
+        return new ParallelReportGenerator(environmentVariables.getPropertyAsInteger(
+                SerenityJBehaveSystemProperties.REPORT_THREADS.getName(), 1), outputDirectory, reportServices);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+        if (threads == 1 || testOutcomes.size() <= MINIMUM_BATCH_SIZE) {
+            reportServices.get().generateReportsFor(testOutcomes);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new ReportBatch(testOutcomes, TestOutcomes.of(testOutcomes),
+                                        batchSizeFor(testOutcomes.size())));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    int batchSizeFor(int outcomes) {
+        int batches = threads * BATCHES_PER_THREAD;
+        return Math.max(MINIMUM_BATCH_SIZE, (outcomes + batches - 1) / batches);
+    }
+
+    private class ReportBatch extends RecursiveAction {
+
+        private final List<TestOutcome> testOutcomes;
+        private final TestOutcomes allTestOutcomes;
+        private final int batchSize;
+
+        ReportBatch(List<TestOutcome> testOutcomes, TestOutcomes allTestOutcomes, int batchSize) {
+            this.testOutcomes = testOutcomes;
+            this.allTestOutcomes = allTestOutcomes;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (testOutcomes.size() <= batchSize) {
+                generateReports();
+                return;
+            }
+            int middle = testOutcomes.size() / 2;
+            invokeAll(new ReportBatch(testOutcomes.subList(0, middle), allTestOutcomes, batchSize),
+                      new ReportBatch(testOutcomes.subList(middle, testOutcomes.size()), allTestOutcomes, batchSize));
+        }
+
+        private void generateReports() {
+            OutcomeReports.generateReportsFor(reportServices.get(), outputDirectory, testOutcomes, allTestOutcomes);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import de.codecentric.jbehave.junit.monitoring.JUnitDescriptionGenerator;
 import de.codecentric.jbehave.junit.monitoring.JUnitScenarioReporter;
 import net.serenity_bdd.jbehave.SerenityStories;
 import net.serenity_bdd.jbehave.annotations.Metafilter;
+import net.serenity_bdd.jbehave.metafilters.NativeMetaMatcher;
+import net.serenity_bdd.jbehave.webdriver.DriverLookAhead;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -39,10 +41,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.DRIVER_POOL_SIZE;
 import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.IGNORE_FAILURES_IN_STORIES;
 import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.IGNORE_FAILURES_IN_VIEW;
 import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.METAFILTER;
+import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.PREFILTER_STORIES;
 import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.STORY_TIMEOUT_IN_SECS;
+import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.USE_GROOVY_METAFILTERS;
 import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_USE_UNIQUE_BROWSER;
 
 public class SerenityReportingRunner extends Runner {
@@ -110,10 +115,52 @@ public class SerenityReportingRunner extends Runner {
                 LOGGER.error("Could not load story paths",e);
                 return Collections.EMPTY_LIST;
             }
+            storyPaths = prefiltered(storyPaths);
         }
         return storyPaths;
     }
 
+    /**
+     * Drop the stories that the meta filters would not let run, before they are parsed, described or given a driver.
+     */
+    private List<String> prefiltered(List<String> storyPaths) {
+        if (storyPaths == null || !shouldPrefilterStories()) {
+            return storyPaths;
+        }
+        useMetaFilters();
+        StoryPrefilter prefilter = new StoryPrefilter(getConfiguredEmbedder().metaFilter(), getConfiguration().keywords());
+        List<String> storiesThatMightRun = new ArrayList<>();
+        for (String storyPath : storyPaths) {
+            if (mightRun(prefilter, storyPath)) {
+                storiesThatMightRun.add(storyPath);
+            } else {
+                LOGGER.debug("Story {} is excluded by the meta filters", storyPath);
+            }
+        }
+        return storiesThatMightRun;
+    }
+
+    private boolean mightRun(StoryPrefilter prefilter, String storyPath) {
+        try {
+            return prefilter.mightRun(getConfiguration().storyLoader().loadStoryAsText(storyPath));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not prefilter story {} ({})", storyPath, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Filters on the properties JBehave derives from the story or scenario themselves (such as the story path)
+     * can only be applied to parsed stories.
+     */
+    private boolean shouldPrefilterStories() {
+        if (!metaFiltersAreDefined() || !environmentVariables.getPropertyAsBoolean(PREFILTER_STORIES.getName(), true)) {
+            return false;
+        }
+        String metaFilters = getMetafilterSetting();
+        return !metaFilters.contains("story_") && !metaFilters.contains("scenario_");
+    }
+
     private EnvironmentVariables environmentVariablesFrom(ConfigurableEmbedder configurableEmbedder) {
         if (configurableEmbedder instanceof SerenityStories) {
             return ((SerenityStories) configurableEmbedder).getEnvironmentVariables();
@@ -147,7 +194,7 @@ public class SerenityReportingRunner extends Runner {
         getConfiguredEmbedder().embedderControls().doIgnoreFailureInStories(getIgnoreFailuresInStories());
         getConfiguredEmbedder().embedderControls().useStoryTimeoutInSecs(getStoryTimeoutInSecs());
         if (metaFiltersAreDefined()) {
-            getConfiguredEmbedder().useMetaFilters(getMetaFilters());
+            useMetaFilters();
         }
 
         JUnitScenarioReporter junitReporter = new JUnitScenarioReporter(notifier, testCount(), getDescription(), new Keywords());
@@ -161,7 +208,7 @@ public class SerenityReportingRunner extends Runner {
 		} catch (Throwable e) {
 			throw new RuntimeException(e);
 		} finally {
-            if (usingUniqueBrowser()) {
+            if (usingUniqueBrowser() || usingDriverPool()) {
                 ThucydidesWebDriverSupport.closeAllDrivers();
             }
             getConfiguredEmbedder().generateCrossReference();
@@ -271,13 +318,23 @@ public class SerenityReportingRunner extends Runner {
     private void addStories(List<Description> storyDescriptions,
 			StoryRunner storyRunner, JUnitDescriptionGenerator gen) {
 
+        DriverLookAhead driverLookAhead = driverLookAhead();
+        driverLookAhead.clear();
         for (String storyPath : getStoryPaths()) {
             Story parseStory = storyRunner.storyOfPath(getConfiguration(), storyPath);
             Description descr = gen.createDescriptionFrom(parseStory);
             storyDescriptions.add(descr);
+            driverLookAhead.storyWillRun(storyPath, parseStory.getMeta().getProperty("driver"));
 		}
 	}
 
+    private DriverLookAhead driverLookAhead() {
+        if (configurableEmbedder instanceof SerenityStories) {
+            return ((SerenityStories) configurableEmbedder).getDriverLookAhead();
+        }
+        return new DriverLookAhead();
+    }
+
 	private void addSuite(List<Description> storyDescriptions, String name) {
 		storyDescriptions.add(Description.createTestDescription(Object.class,
 				name));
@@ -290,6 +347,13 @@ public class SerenityReportingRunner extends Runner {
         return !StringUtils.isEmpty(metaFilters);
     }
 
+    private void useMetaFilters() {
+        if (!environmentVariables.getPropertyAsBoolean(USE_GROOVY_METAFILTERS.getName(), false)) {
+            getConfiguredEmbedder().useMetaMatchers(NativeMetaMatcher.metaMatchers());
+        }
+        getConfiguredEmbedder().useMetaFilters(getMetaFilters());
+    }
+
     private String getMetafilterSetting() {
         Optional<String> environmentMetafilters = getEnvironmentMetafilters();
         Optional<String> annotatedMetafilters = getAnnotatedMetafilters(testClass);
@@ -365,5 +429,9 @@ public class SerenityReportingRunner extends Runner {
         return environmentVariables.getPropertyAsBoolean(THUCYDIDES_USE_UNIQUE_BROWSER, false);
     }
 
+    public boolean usingDriverPool() {
+        return environmentVariables.getPropertyAsInteger(DRIVER_POOL_SIZE.getName(), 0) > 0;
+    }
+
     protected boolean getIgnoreFailuresInView() { return environmentVariables.getPropertyAsBoolean(IGNORE_FAILURES_IN_VIEW.getName(),true); }
 }
@@ -0,0 +1,98 @@
+package net.serenity_bdd.jbehave.runners;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import net.serenity_bdd.jbehave.SerenityStoryParser.ScenarioText;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Meta;
+
+/**
+ * Decides whether a story can have anything to run under a meta filter, from the text of the story alone.
+ * The story is cut into its header and scenarios as {@link SerenityStoryParser} does, but only the story-level
+ * meta block and the meta of each scenario are read: the steps and examples tables are not parsed.
+ * Like JBehave, a story is kept if its own meta is allowed or if any of its scenarios is allowed, scenarios
+ * inheriting the meta of the story. When in doubt (for instance when meta is given per examples table row),
+ * the story is kept and JBehave filters it as usual.
+ */
+public class StoryPrefilter {
+
+    private final MetaFilter metaFilter;
+    private final Keywords keywords;
+    private final SerenityStoryParser storyParser;
+
+    public StoryPrefilter(MetaFilter metaFilter, Keywords keywords) {
+        this.metaFilter = metaFilter;
+        this.keywords = keywords;
+        this.storyParser = new SerenityStoryParser(keywords, new ExamplesTableFactory());
+    }
+
+    public boolean mightRun(String storyAsText) {
+        String header = storyParser.headerOf(storyAsText);
+        Meta storyMeta = storyMetaIn(header == null ? storyAsText : header);
+        if (metaFilter.allow(storyMeta)) {
+            return true;
+        }
+        for (ScenarioText scenario : storyParser.scenarioTextsIn(storyAsText)) {
+            if (hasMetaByRow(scenario)
+                    || metaFilter.allow(scenarioMetaIn(scenario.getScenarioWithoutExamples()).inheritFrom(storyMeta))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The story meta block runs from the meta keyword to the narrative, given stories or lifecycle, whichever
+     * comes first.
+     */
+    Meta storyMetaIn(String header) {
+        int metaStart = header.indexOf(keywords.meta());
+        if (metaStart < 0) {
+            return Meta.EMPTY;
+        }
+        int start = metaStart + keywords.meta().length();
+        int end = firstOf(header, start, keywords.narrative(), keywords.givenStories(), keywords.lifecycle());
+        return metaFrom(header.substring(start, end));
+    }
+
+    /**
+     * The scenario meta block runs from the last meta keyword before the first step to the given stories or the
+     * first step, whichever comes first.
+     */
+    Meta scenarioMetaIn(String scenario) {
+        int firstStep = firstOf(scenario, 0, "\n" + keywords.given(), "\n" + keywords.when(),
+                                "\n" + keywords.then(), "\n" + keywords.and(), "\n" + keywords.examplesTable());
+        int metaStart = scenario.lastIndexOf(keywords.meta(), firstStep);
+        if (metaStart < 0) {
+            return Meta.EMPTY;
+        }
+        int start = metaStart + keywords.meta().length();
+        int end = Math.max(start, firstOf(scenario, start, keywords.givenStories(), "\n" + keywords.given(),
+                                          "\n" + keywords.when(), "\n" + keywords.then(), "\n" + keywords.and(),
+                                          "\n" + keywords.examplesTable()));
+        return metaFrom(scenario.substring(start, end));
+    }
+
+    private boolean hasMetaByRow(ScenarioText scenario) {
+        return scenario.getExamplesTable() != null && scenario.getExamplesTable().contains(keywords.meta());
+    }
+
+    /**
+     * Read like JBehave reads meta, so that commented-out properties are left out.
+     */
+    private Meta metaFrom(String metaAsText) {
+        return Meta.createMeta(metaAsText.trim(), keywords);
+    }
+
+    private int firstOf(String text, int from, String... candidates) {
+        int first = text.length();
+        for (String candidate : candidates) {
+            int index = text.indexOf(candidate, from);
+            if (index >= 0 && index < first) {
+                first = index;
+            }
+        }
+        return first;
+    }
+}
@@ -0,0 +1,128 @@
+package net.serenity_bdd.jbehave.shards;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * A list of test outcomes, one per line, read and written one entry at a time so that manifests of any size
+ * can be merged without holding them in memory. Each line holds the outcome key (story and scenario), the time the
+ * outcome was recorded, a hash of the outcome file and the outcome file name, separated by tabs.
+ */
+public class ShardManifest {
+
+    public static final String FILE_EXTENSION = ".manifest";
+
+    private static final String SEPARATOR = "\t";
+
+    public static class Entry {
+        private final String key;
+        private final long recordedAt;
+        private final String contentHash;
+        private final String outcomeFile;
+
+        public Entry(String key, long recordedAt, String contentHash, String outcomeFile) {
+            this.key = key;
+            this.recordedAt = recordedAt;
+            this.contentHash = contentHash;
+            this.outcomeFile = outcomeFile;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getRecordedAt() {
+            return recordedAt;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public String getOutcomeFile() {
+            return outcomeFile;
+        }
+
+        String asLine() {
+            return escaped(key) + SEPARATOR + recordedAt + SEPARATOR + contentHash + SEPARATOR + outcomeFile;
+        }
+
+        static Entry fromLine(String line) {
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Not a shard manifest entry: " + line);
+            }
+            return new Entry(unescaped(fields[0]), Long.parseLong(fields[1]), fields[2], fields[3]);
+        }
+
+        private static String escaped(String value) {
+            return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+        }
+
+        private static String unescaped(String value) {
+            StringBuilder unescaped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char character = value.charAt(i);
+                if (character == '\\' && i + 1 < value.length()) {
+                    char escapedCharacter = value.charAt(++i);
+                    unescaped.append(escapedCharacter == 't' ? '\t'
+                                             : escapedCharacter == 'n' ? '\n'
+                                             : escapedCharacter == 'r' ? '\r' : escapedCharacter);
+                } else {
+                    unescaped.append(character);
+                }
+            }
+            return unescaped.toString();
+        }
+    }
+
+    public static class Reader implements Closeable {
+        private final BufferedReader reader;
+
+        public Reader(File manifest) throws IOException {
+            reader = Files.newBufferedReader(manifest.toPath(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * The next entry, or null at the end of the manifest.
+         */
+        public Entry next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.trim().isEmpty());
+            return (line == null) ? null : Entry.fromLine(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    public static class Writer implements Closeable {
+        private final java.io.Writer writer;
+
+        public Writer(File manifest) throws IOException {
+            Files.createDirectories(manifest.getAbsoluteFile().getParentFile().toPath());
+            writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(manifest.toPath()),
+                                                               StandardCharsets.UTF_8));
+        }
+
+        public void write(Entry entry) throws IOException {
+            writer.write(entry.asLine());
+            writer.write("\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package net.serenity_bdd.jbehave.shards;
+
+import com.google.common.base.Optional;
+import net.serenity_bdd.core.SerenityReports;
+import net.serenity_bdd.jbehave.reports.OutcomeReports;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.SystemPropertiesConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges the partial outcome sets written by {@link ShardOutcomes} on each node into a single report directory.
+ * When the same scenario was run on several nodes (or rerun), the most recent run is kept.
+ * The merged directory keeps a manifest of what it was built from, so that merging again after some shards have
+ * been rerun only regenerates the reports of the scenarios whose outcomes changed, or of every scenario if
+ * scenarios were added or removed.
+ * Each report is generated against all the merged outcomes, as the reports link to and count the other tests, so
+ * the latest outcome of every scenario is loaded; manifests are still read one entry at a time.
+ * <p>
+ * Usage: ShardMerger mergedOutputDirectory shardOutputDirectory...
+ */
+public class ShardMerger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardMerger.class);
+
+    public static final String MERGED_MANIFEST = "merged.manifest";
+
+    private final File mergedDirectory;
+    private final ReportService reportService;
+    private final XMLTestOutcomeReporter outcomeLoader;
+
+    public ShardMerger(File mergedDirectory) {
+        this(mergedDirectory, reportServiceFor(mergedDirectory), new XMLTestOutcomeReporter());
+    }
+
+    ShardMerger(File mergedDirectory, ReportService reportService, XMLTestOutcomeReporter outcomeLoader) {
+        this.mergedDirectory = mergedDirectory;
+        this.reportService = reportService;
+        this.outcomeLoader = outcomeLoader;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardMerger mergedOutputDirectory shardOutputDirectory...");
+            System.exit(2);
+        }
+        List<File> shardDirectories = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            shardDirectories.add(new File(args[i]));
+        }
+        MergeResult result = new ShardMerger(new File(args[0])).merge(shardDirectories);
+        System.out.println(result);
+    }
+
+    public MergeResult merge(List<File> shardDirectories) throws IOException {
+        Map<String, ShardManifest.Entry> latestRuns = new HashMap<>();
+        Map<String, File> shardOf = new HashMap<>();
+        int duplicateRuns = 0;
+        for (File shardDirectory : shardDirectories) {
+            File shardFolder = new File(shardDirectory, ShardOutcomes.SHARD_FOLDER);
+            List<File> manifests = manifestsIn(shardFolder);
+            if (manifests.isEmpty()) {
+                LOGGER.warn("No shard outcomes in {}: skipping it", shardDirectory);
+                continue;
+            }
+            for (File manifest : manifests) {
+                try (ShardManifest.Reader reader = new ShardManifest.Reader(manifest)) {
+                    ShardManifest.Entry entry;
+                    while ((entry = reader.next()) != null) {
+                        ShardManifest.Entry previousRun = latestRuns.get(entry.getKey());
+                        if (previousRun != null) {
+                            duplicateRuns++;
+                        }
+                        if (previousRun == null || entry.getRecordedAt() >= previousRun.getRecordedAt()) {
+                            latestRuns.put(entry.getKey(), entry);
+                            shardOf.put(entry.getKey(), shardFolder);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, String> previouslyMerged = previouslyMergedHashes();
+        boolean sameScenarios = previouslyMerged.keySet().equals(latestRuns.keySet());
+        List<String> keys = new ArrayList<>(latestRuns.keySet());
+        Collections.sort(keys);
+        List<TestOutcome> mergedOutcomes = new ArrayList<>();
+        List<TestOutcome> changedOutcomes = new ArrayList<>();
+        for (String key : keys) {
+            ShardManifest.Entry entry = latestRuns.get(key);
+            Optional<TestOutcome> testOutcome = loadOutcomeFrom(new File(shardOf.get(key), entry.getOutcomeFile()));
+            if (testOutcome.isPresent()) {
+                mergedOutcomes.add(testOutcome.get());
+                if (!sameScenarios || !entry.getContentHash().equals(previouslyMerged.get(key))) {
+                    changedOutcomes.add(testOutcome.get());
+                }
+            }
+        }
+        OutcomeReports.generateReportsFor(reportService, mergedDirectory, changedOutcomes,
+                                          TestOutcomes.of(mergedOutcomes));
+
+        File mergedManifest = new File(mergedDirectory, MERGED_MANIFEST);
+        File newManifest = new File(mergedDirectory, MERGED_MANIFEST + ".new");
+        try (ShardManifest.Writer manifest = new ShardManifest.Writer(newManifest)) {
+            for (String key : keys) {
+                manifest.write(latestRuns.get(key));
+            }
+        }
+        Files.move(newManifest.toPath(), mergedManifest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return new MergeResult(keys.size(), duplicateRuns, changedOutcomes.size());
+    }
+
+    /**
+     * The manifests written by each reporter of a shard, in name order so that merges are repeatable.
+     */
+    private List<File> manifestsIn(File shardFolder) {
+        File[] manifests = shardFolder.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File directory, String name) {
+                return name.endsWith(ShardManifest.FILE_EXTENSION);
+            }
+        });
+        if (manifests == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(manifests);
+        return Arrays.asList(manifests);
+    }
+
+    private Optional<TestOutcome> loadOutcomeFrom(File outcomeFile) throws IOException {
+        Optional<TestOutcome> testOutcome = outcomeLoader.loadReportFrom(outcomeFile);
+        if (!testOutcome.isPresent()) {
+            LOGGER.warn("Could not read the test outcome in {}", outcomeFile);
+        }
+        return testOutcome;
+    }
+
+    private Map<String, String> previouslyMergedHashes() throws IOException {
+        Map<String, String> hashes = new HashMap<>();
+        File manifest = new File(mergedDirectory, MERGED_MANIFEST);
+        if (manifest.exists()) {
+            try (ShardManifest.Reader reader = new ShardManifest.Reader(manifest)) {
+                ShardManifest.Entry entry;
+                while ((entry = reader.next()) != null) {
+                    hashes.put(entry.getKey(), entry.getContentHash());
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static ReportService reportServiceFor(File mergedDirectory) {
+        EnvironmentVariables environmentVariables
+                = Injectors.getInjector().getProvider(EnvironmentVariables.class).get().copy();
+        environmentVariables.setProperty("thucydides.outputDirectory", mergedDirectory.getAbsolutePath());
+        return SerenityReports.getReportService(new SystemPropertiesConfiguration(environmentVariables));
+    }
+
+    public static class MergeResult {
+        private final int scenarios;
+        private final int duplicateRuns;
+        private final int regenerated;
+
+        MergeResult(int scenarios, int duplicateRuns, int regenerated) {
+            this.scenarios = scenarios;
+            this.duplicateRuns = duplicateRuns;
+            this.regenerated = regenerated;
+        }
+
+        public int getScenarios() {
+            return scenarios;
+        }
+
+        public int getDuplicateRuns() {
+            return duplicateRuns;
+        }
+
+        public int getRegenerated() {
+            return regenerated;
+        }
+
+        @Override
+        public String toString() {
+            return "Merged " + scenarios + " scenarios (" + duplicateRuns + " duplicate runs dropped), "
+                   + regenerated + " reports regenerated";
+        }
+    }
+}
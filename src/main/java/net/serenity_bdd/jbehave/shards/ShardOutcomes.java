@@ -0,0 +1,107 @@
+package net.serenity_bdd.jbehave.shards;
+
+import com.google.common.hash.Hashing;
+import net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes the outcomes of this run as a partial outcome set that the {@link ShardMerger} can combine with the
+ * outcomes of other nodes: one XML outcome file per scenario in a "shard" folder of the output directory, listed in
+ * a {@link ShardManifest}. Only done when the shard.outcomes property is set.
+ * Several story classes can report to the same output directory, so each reporter writes its own manifest, and the
+ * merger reads all the manifests of a shard folder.
+ * JBehave allows several scenarios with the same title in a story: the second and later ones are told apart by
+ * their position among them, in their key and in the sub-folder their outcome file is written to, since Serenity
+ * would give their outcome files the same name.
+ */
+public class ShardOutcomes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardOutcomes.class);
+
+    public static final String SHARD_FOLDER = "shard";
+
+    private static final String REPEATED_TITLE_FOLDER = "repeated-title-";
+
+    private final boolean enabled;
+    private final String manifestName = "shard-" + UUID.randomUUID() + ShardManifest.FILE_EXTENSION;
+
+    ShardOutcomes(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static ShardOutcomes configuredBy(EnvironmentVariables environmentVariables) {
+        return new ShardOutcomes(environmentVariables.getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.SHARD_OUTCOMES.getName(), false));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void writeTo(File outputDirectory, List<TestOutcome> testOutcomes) {
+        if (!enabled) {
+            return;
+        }
+        File shardDirectory = new File(outputDirectory, SHARD_FOLDER);
+        XMLTestOutcomeReporter outcomeReporter = new XMLTestOutcomeReporter();
+        TestOutcomes allOutcomes = TestOutcomes.of(testOutcomes);
+        Map<String, Integer> occurrences = new HashMap<>();
+        try (ShardManifest.Writer manifest = new ShardManifest.Writer(new File(shardDirectory, manifestName))) {
+            for (TestOutcome testOutcome : testOutcomes) {
+                String key = keyOf(testOutcome);
+                int occurrence = occurrences.containsKey(key) ? occurrences.get(key) + 1 : 1;
+                occurrences.put(key, occurrence);
+                String outcomeFolder = (occurrence == 1) ? "" : REPEATED_TITLE_FOLDER + occurrence + "/";
+                File outcomeDirectory = new File(shardDirectory, outcomeFolder);
+                Files.createDirectories(outcomeDirectory.toPath());
+                outcomeReporter.setOutputDirectory(outcomeDirectory);
+                File outcomeFile = outcomeReporter.generateReportFor(testOutcome, allOutcomes);
+                manifest.write(new ShardManifest.Entry(keyOf(testOutcome, occurrence), recordedAt(testOutcome),
+                                                       hashOf(outcomeFile), outcomeFolder + outcomeFile.getName()));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the shard outcomes to {} ({})", shardDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * Scenarios are identified by their story and title, so that a scenario run again on another node replaces
+     * the earlier run.
+     */
+    static String keyOf(TestOutcome testOutcome) {
+        String story = (testOutcome.getUserStory() == null) ? "" : testOutcome.getUserStory().getPath();
+        return (story == null ? "" : story) + "#" + testOutcome.getTitle();
+    }
+
+    /**
+     * @param occurrence the position of the scenario among those with the same story and title, starting at 1.
+     */
+    static String keyOf(TestOutcome testOutcome, int occurrence) {
+        return (occurrence == 1) ? keyOf(testOutcome) : keyOf(testOutcome) + "#" + occurrence;
+    }
+
+    /**
+     * When the scenario started, so that the latest run wins however late each node writes its reports.
+     */
+    static long recordedAt(TestOutcome testOutcome) {
+        return (testOutcome.getStartTime() == null) ? System.currentTimeMillis()
+                                                    : testOutcome.getStartTime().getMillis();
+    }
+
+    static String hashOf(File file) throws IOException {
+        return com.google.common.io.Files.hash(file, Hashing.sha1()).toString();
+    }
+}
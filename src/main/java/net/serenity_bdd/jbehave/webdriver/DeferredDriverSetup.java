@@ -0,0 +1,37 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+/**
+ * Holds back the WebDriver setup for a story until a step that needs a driver is about to run.
+ * Stories that only use REST or API steps then never pay for driver setup at all.
+ */
+public class DeferredDriverSetup {
+
+    private static final ThreadLocal<Runnable> pendingSetup = new ThreadLocal<>();
+
+    public static void deferUntilNeeded(Runnable driverSetup) {
+        pendingSetup.set(driverSetup);
+    }
+
+    /**
+     * Record that the driver for the current story is ready to use.
+     */
+    public static void driverSetupDone() {
+        pendingSetup.remove();
+    }
+
+    public static boolean isPending() {
+        return pendingSetup.get() != null;
+    }
+
+    public static void ensureDriverIsSetUp() {
+        Runnable driverSetup = pendingSetup.get();
+        if (driverSetup != null) {
+            pendingSetup.remove();
+            driverSetup.run();
+        }
+    }
+
+    public static void clear() {
+        pendingSetup.remove();
+    }
+}
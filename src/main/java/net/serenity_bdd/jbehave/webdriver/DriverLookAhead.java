@@ -0,0 +1,42 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * The order in which stories are expected to run, and the driver each of them asks for in its "driver" meta tag.
+ * The runner records this while it builds the story descriptions, so that the reporter can warm up the browser
+ * sessions that the next stories will need while the current one is still running.
+ * Each story class has its own look-ahead, shared by its runner and its reporter.
+ */
+public class DriverLookAhead {
+
+    private final List<String> storyPaths = Lists.newArrayList();
+    private final List<String> requestedDrivers = Lists.newArrayList();
+
+    public synchronized void clear() {
+        storyPaths.clear();
+        requestedDrivers.clear();
+    }
+
+    /**
+     * @param requestedDriver the value of the story's "driver" meta tag, or an empty string if there is none.
+     */
+    public synchronized void storyWillRun(String storyPath, String requestedDriver) {
+        storyPaths.add(storyPath);
+        requestedDrivers.add(requestedDriver == null ? "" : requestedDriver);
+    }
+
+    /**
+     * The drivers requested by the stories scheduled to run after the given one, nearest first.
+     */
+    public synchronized List<String> driversRequestedAfter(String storyPath, int maxStories) {
+        int position = storyPaths.indexOf(storyPath);
+        if (position < 0) {
+            return Lists.newArrayList();
+        }
+        int end = Math.min(position + 1 + maxStories, storyPaths.size());
+        return Lists.newArrayList(requestedDrivers.subList(position + 1, end));
+    }
+}
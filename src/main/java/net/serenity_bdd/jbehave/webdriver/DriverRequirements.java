@@ -0,0 +1,74 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import net.thucydides.core.annotations.Managed;
+import net.thucydides.core.annotations.ManagedPages;
+import net.thucydides.core.annotations.Steps;
+import net.thucydides.core.pages.PageObject;
+import net.thucydides.core.pages.Pages;
+import net.thucydides.core.steps.ScenarioSteps;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Works out whether a step class needs a WebDriver: that is, whether it (or any step library it uses)
+ * has a WebDriver, Pages or page object field, or a constructor that takes a Pages object.
+ */
+public class DriverRequirements {
+
+    private static final ConcurrentMap<Class<?>, Boolean> driverRequirements = new ConcurrentHashMap<>();
+
+    public static boolean stepsNeedADriver(Class<?> stepsType) {
+        Boolean needsADriver = driverRequirements.get(stepsType);
+        if (needsADriver == null) {
+            needsADriver = needsADriver(stepsType, new HashSet<Class<?>>());
+            driverRequirements.putIfAbsent(stepsType, needsADriver);
+        }
+        return needsADriver;
+    }
+
+    private static boolean needsADriver(Class<?> type, Set<Class<?>> visitedTypes) {
+        if (!visitedTypes.add(type)) {
+            return false;
+        }
+        if (ScenarioSteps.class.isAssignableFrom(type) || hasConstructorWithPagesParameter(type)) {
+            return true;
+        }
+        for (Class<?> declaringType = type; declaringType != null && declaringType != Object.class;
+             declaringType = declaringType.getSuperclass()) {
+            for (Field field : declaringType.getDeclaredFields()) {
+                if (isADriverField(field)) {
+                    return true;
+                }
+                if (field.isAnnotationPresent(Steps.class) && needsADriver(field.getType(), visitedTypes)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isADriverField(Field field) {
+        return field.isAnnotationPresent(Managed.class)
+                || field.isAnnotationPresent(ManagedPages.class)
+                || WebDriver.class.isAssignableFrom(field.getType())
+                || Pages.class.isAssignableFrom(field.getType())
+                || PageObject.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean hasConstructorWithPagesParameter(Class<?> type) {
+        for (Constructor<?> constructor : type.getConstructors()) {
+            for (Class<?> parameterType : constructor.getParameterTypes()) {
+                if (Pages.class.isAssignableFrom(parameterType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,157 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A browser session held by the {@link WebDriverSessionPool}, along with the number of stories it has been used for.
+ */
+public class PooledSession {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledSession.class);
+
+    private static final String CLEAR_WEB_STORAGE
+            = "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private final String driverType;
+    private final WebDriver driver;
+    private int uses = 0;
+    private Future<?> warmUp;
+
+    public PooledSession(String driverType, WebDriver driver) {
+        this.driverType = driverType;
+        this.driver = driver;
+    }
+
+    public String getDriverType() {
+        return driverType;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public int getUses() {
+        return uses;
+    }
+
+    public void used() {
+        uses++;
+    }
+
+    public boolean isFor(WebDriver driver) {
+        return this.driver == driver;
+    }
+
+    /**
+     * A session that was never opened (the Serenity driver proxy is lazy) is healthy by definition.
+     * Otherwise the browser must still answer a simple round trip.
+     */
+    public boolean isHealthy() {
+        if (!isInstantiated()) {
+            return true;
+        }
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.info("Pooled {} session is no longer responding ({})", driverType, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Remove any state left over by the previous story: cookies, local and session storage, and the current page.
+     * Returns false if the browser could not be cleaned up, in which case it should not be reused.
+     */
+    public boolean clean() {
+        if (!isInstantiated()) {
+            return true;
+        }
+        try {
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_WEB_STORAGE);
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.info("Could not clean up pooled {} session ({})", driverType, e.getMessage());
+            return false;
+        }
+    }
+
+    public void close() {
+        awaitWarmUp();
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Failed to close pooled {} session cleanly ({})", driverType, e.getMessage());
+        }
+    }
+
+    /**
+     * Close the browser but keep the session: the Serenity driver proxy opens a fresh browser the next time it is
+     * used, or when the session is warmed up.
+     */
+    public void recycle() {
+        close();
+        uses = 0;
+    }
+
+    public boolean isCold() {
+        return warmUp == null && !isInstantiated();
+    }
+
+    /**
+     * Start the browser in the background, so that it is ready by the time a story needs it.
+     * Only the Serenity driver proxy can be started ahead of time this way.
+     * The browser is opened on a warm-up thread and then handed back to the test thread that owns the session:
+     * until {@link #awaitWarmUp()} returns, only the warm-up thread touches the driver, and every path that uses
+     * or closes the session on the owning thread waits for it first. Waiting on the warm-up also makes the
+     * driver the warm-up thread created visible to the owning thread.
+     */
+    public void warmUpWith(ExecutorService executor) {
+        if (isCold() && driver instanceof WebDriverFacade) {
+            warmUp = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    ((WebDriverFacade) driver).getProxiedDriver();
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait for any background start of this browser to finish before it is used on the test thread.
+     */
+    public void awaitWarmUp() {
+        if (warmUp == null) {
+            return;
+        }
+        try {
+            warmUp.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.info("Could not warm up {} session ({})", driverType, e.getCause().getMessage());
+        } finally {
+            warmUp = null;
+        }
+    }
+
+    private boolean isInstantiated() {
+        if (driver instanceof WebDriverFacade) {
+            return ((WebDriverFacade) driver).isInstantiated();
+        }
+        return driver != null;
+    }
+}
@@ -0,0 +1,165 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.DRIVER_POOL_MAX_REUSE;
+import static net.serenity_bdd.jbehave.SerenityJBehaveSystemProperties.DRIVER_POOL_SIZE;
+
+/**
+ * Keeps browser sessions warm between stories, keyed by driver type.
+ * Serenity binds WebDriver instances to the thread that created them, so each test thread has its own set of
+ * sessions, ordered from least to most recently used. When a story finishes, its session is cleaned up and
+ * kept for the next story. A session that has stopped responding or has been reused too many times has its browser
+ * closed, and is started again in the background if an upcoming story needs it.
+ */
+public class WebDriverSessionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverSessionPool.class);
+
+    public static final int DEFAULT_MAX_REUSE = 50;
+
+    private final int maxSessions;
+    private final int maxReuse;
+
+    private final ThreadLocal<Map<String, PooledSession>> sessionsThreadLocal = new ThreadLocal<>();
+    private final ThreadLocal<PooledSession> currentSessionThreadLocal = new ThreadLocal<>();
+
+    private ExecutorService warmUpExecutor;
+
+    public WebDriverSessionPool(int maxSessions, int maxReuse) {
+        this.maxSessions = maxSessions;
+        this.maxReuse = maxReuse;
+    }
+
+    public static WebDriverSessionPool configuredBy(EnvironmentVariables environmentVariables) {
+        return new WebDriverSessionPool(
+                environmentVariables.getPropertyAsInteger(DRIVER_POOL_SIZE.getName(), 0),
+                environmentVariables.getPropertyAsInteger(DRIVER_POOL_MAX_REUSE.getName(), DEFAULT_MAX_REUSE));
+    }
+
+    public boolean isEnabled() {
+        return maxSessions > 0;
+    }
+
+    /**
+     * Record that the current story on this thread uses the given driver.
+     * If Serenity handed us a different driver than the one pooled for this type, the old one is closed.
+     */
+    public void acquire(String driverType, WebDriver driver) {
+        Map<String, PooledSession> sessions = sessions();
+        PooledSession session = sessions.remove(driverType);
+        if (session != null && !session.isFor(driver)) {
+            session.close();
+            session = null;
+        }
+        if (session == null) {
+            session = new PooledSession(driverType, driver);
+        }
+        sessions.put(driverType, session);
+        session.awaitWarmUp();
+        session.used();
+        currentSessionThreadLocal.set(session);
+        evictLeastRecentlyUsedSessions();
+    }
+
+    /**
+     * The current story is done with its session: clean it up for the next story, or close its browser
+     * if it is worn out or broken.
+     */
+    public void release() {
+        PooledSession session = currentSessionThreadLocal.get();
+        currentSessionThreadLocal.remove();
+        if (session == null) {
+            return;
+        }
+        if (session.getUses() >= maxReuse || !session.isHealthy() || !session.clean()) {
+            session.recycle();
+        }
+    }
+
+    /**
+     * Start, in the background, the browsers that the next stories will ask for.
+     * Only sessions that this thread has already used can be warmed up, and never the one in use by the current story.
+     */
+    public void warmUp(List<String> upcomingDriverTypes) {
+        PooledSession currentSession = currentSessionThreadLocal.get();
+        int warmSessions = 0;
+        for (String driverType : upcomingDriverTypes) {
+            if (warmSessions >= maxSessions) {
+                break;
+            }
+            PooledSession session = sessions().get(driverType);
+            if (session != null && session != currentSession && session.isCold()) {
+                session.warmUpWith(getWarmUpExecutor());
+                warmSessions++;
+            }
+        }
+    }
+
+    /**
+     * Give the current scenario a clean browser without restarting it.
+     */
+    public void reset() {
+        PooledSession session = currentSessionThreadLocal.get();
+        if (session != null && (!session.isHealthy() || !session.clean())) {
+            session.recycle();
+        }
+    }
+
+    public void closeAll() {
+        currentSessionThreadLocal.remove();
+        for (PooledSession session : Lists.newArrayList(sessions().values())) {
+            evict(session);
+        }
+    }
+
+    public List<PooledSession> getSessions() {
+        return Lists.newArrayList(sessions().values());
+    }
+
+    private void evictLeastRecentlyUsedSessions() {
+        Iterator<PooledSession> sessions = sessions().values().iterator();
+        int excessSessions = sessions().size() - maxSessions;
+        while (excessSessions > 0 && sessions.hasNext()) {
+            PooledSession session = sessions.next();
+            if (session != currentSessionThreadLocal.get()) {
+                sessions.remove();
+                session.close();
+                excessSessions--;
+            }
+        }
+    }
+
+    private synchronized ExecutorService getWarmUpExecutor() {
+        if (warmUpExecutor == null) {
+            warmUpExecutor = Executors.newCachedThreadPool(
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat("driver-warm-up-%d").build());
+        }
+        return warmUpExecutor;
+    }
+
+    private void evict(PooledSession session) {
+        LOGGER.debug("Closing pooled {} session after {} uses", session.getDriverType(), session.getUses());
+        sessions().remove(session.getDriverType());
+        session.close();
+    }
+
+    private Map<String, PooledSession> sessions() {
+        if (sessionsThreadLocal.get() == null) {
+            sessionsThreadLocal.set(new LinkedHashMap<String, PooledSession>());
+        }
+        return sessionsThreadLocal.get();
+    }
+}
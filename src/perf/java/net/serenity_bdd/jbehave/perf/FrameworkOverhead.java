@@ -0,0 +1,234 @@
+package net.serenity_bdd.jbehave.perf;
+
+import net.serenity_bdd.jbehave.runners.SerenityReportingRunner;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Measures how much time serenity-jbehave adds to each step and each scenario, on top of JBehave itself.
+ * The same generated suite of no-op steps is run with a bare JBehave embedder and through the
+ * {@link SerenityReportingRunner} (with a stub driver), and the difference is the framework overhead.
+ * The suite is run twice, the second time with twice as many steps per scenario, to separate the cost of a step
+ * from the cost of a scenario (which includes the per-story costs, such as listener and driver setup).
+ * The medians are compared with a baseline file, and the process exits with a non-zero status if either overhead
+ * has grown by more than the allowed percentage, or has no baseline value to be compared with.
+ * As overheads depend on the machine, the check is run by hand (gradle frameworkOverhead) against a baseline
+ * recorded on the same machine, and is not part of the regular build.
+ * <p>
+ * Usage: FrameworkOverhead stories scenarios steps warmups iterations maxRegressionPercent baselineFile
+ * resultFile [--update-baseline]
+ */
+public class FrameworkOverhead {
+
+    static final String PER_STEP_OVERHEAD = "per.step.overhead.micros";
+    static final String PER_SCENARIO_OVERHEAD = "per.scenario.overhead.micros";
+
+    private final int stories;
+    private final int scenarios;
+    private final int steps;
+    private final int warmups;
+    private final int iterations;
+
+    public FrameworkOverhead(int stories, int scenarios, int steps, int warmups, int iterations) {
+        this.stories = stories;
+        this.scenarios = scenarios;
+        this.steps = steps;
+        this.warmups = warmups;
+        this.iterations = iterations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 8) {
+            System.err.println("Usage: FrameworkOverhead stories scenarios steps warmups iterations "
+                               + "maxRegressionPercent baselineFile resultFile [--update-baseline]");
+            System.exit(2);
+        }
+        FrameworkOverhead frameworkOverhead = new FrameworkOverhead(Integer.parseInt(args[0]),
+                                                                    Integer.parseInt(args[1]),
+                                                                    Integer.parseInt(args[2]),
+                                                                    Integer.parseInt(args[3]),
+                                                                    Integer.parseInt(args[4]));
+        double maxRegressionPercent = Double.parseDouble(args[5]);
+        File baselineFile = new File(args[6]);
+        File resultFile = new File(args[7]);
+        boolean updateBaseline = args.length > 8 && args[8].equals("--update-baseline");
+
+        Properties result = frameworkOverhead.measure();
+        store(result, resultFile, "Framework overhead measured by " + FrameworkOverhead.class.getSimpleName());
+        System.out.println("Framework overhead: " + result);
+
+        if (updateBaseline) {
+            store(result, baselineFile, "Framework overhead baseline");
+            System.out.println("Baseline updated in " + baselineFile);
+            return;
+        }
+        List<String> regressions = regressionsIn(result, load(baselineFile), maxRegressionPercent);
+        for (String regression : regressions) {
+            System.err.println(regression);
+        }
+        System.exit(regressions.isEmpty() ? 0 : 1);
+    }
+
+    public Properties measure() throws IOException {
+        SyntheticSuite suite = new SyntheticSuite(stories, scenarios, steps);
+        SyntheticSuite suiteWithMoreSteps = new SyntheticSuite(stories, scenarios, steps * 2);
+
+        double overhead = medianOverheadInMicros(suite);
+        double overheadWithMoreSteps = medianOverheadInMicros(suiteWithMoreSteps);
+
+        double perStep = (overheadWithMoreSteps - overhead)
+                         / (suiteWithMoreSteps.getStepCount() - suite.getStepCount());
+        double perScenario = (overhead - perStep * suite.getStepCount()) / suite.getScenarioCount();
+
+        Properties result = new Properties();
+        result.setProperty("stories", Integer.toString(stories));
+        result.setProperty("scenarios.per.story", Integer.toString(scenarios));
+        result.setProperty("steps.per.scenario", Integer.toString(steps));
+        result.setProperty(PER_STEP_OVERHEAD, format(perStep));
+        result.setProperty(PER_SCENARIO_OVERHEAD, format(perScenario));
+        return result;
+    }
+
+    static List<String> regressionsIn(Properties result, Properties baseline, double maxRegressionPercent) {
+        List<String> regressions = new ArrayList<>();
+        for (String measure : new String[]{PER_STEP_OVERHEAD, PER_SCENARIO_OVERHEAD}) {
+            if (baseline.getProperty(measure) == null) {
+                regressions.add(String.format("No baseline for %s: record one with -PupdateOverheadBaseline", measure));
+                continue;
+            }
+            double expected = Double.parseDouble(baseline.getProperty(measure));
+            double actual = Double.parseDouble(result.getProperty(measure));
+            if (expected > 0 && (actual - expected) / expected * 100 > maxRegressionPercent) {
+                regressions.add(String.format("%s regressed from %s to %s (more than %s%%)",
+                                              measure, format(expected), format(actual), maxRegressionPercent));
+            }
+        }
+        return regressions;
+    }
+
+    private double medianOverheadInMicros(SyntheticSuite suite) throws IOException {
+        File suiteDirectory = Files.createTempDirectory("synthetic-suite").toFile();
+        List<String> storyPaths = suite.writeTo(suiteDirectory);
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader suiteClassLoader = new URLClassLoader(new URL[]{suiteDirectory.toURI().toURL()},
+                                                                   FrameworkOverhead.class.getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(suiteClassLoader);
+            List<Double> overheads = new ArrayList<>();
+            for (int run = 0; run < warmups + iterations; run++) {
+                long jbehaveTime = timeJBehaveRun(storyPaths, suiteClassLoader);
+                long serenityTime = timeSerenityRun(storyPaths);
+                if (run >= warmups) {
+                    overheads.add((serenityTime - jbehaveTime) / 1000.0);
+                }
+            }
+            Collections.sort(overheads);
+            return overheads.get(overheads.size() / 2);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+            deleteRecursively(suiteDirectory);
+        }
+    }
+
+    private long timeJBehaveRun(List<String> storyPaths, ClassLoader suiteClassLoader) {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath(suiteClassLoader))
+                .useStoryReporterBuilder(new StoryReporterBuilder());
+        Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useEmbedderMonitor(new NullEmbedderMonitor());
+        embedder.useCandidateSteps(new InstanceStepsFactory(configuration, new SyntheticSteps()).createCandidateSteps());
+        embedder.embedderControls().doIgnoreFailureInStories(true).doGenerateViewAfterStories(false);
+
+        long start = System.nanoTime();
+        embedder.runStoriesAsPaths(storyPaths);
+        return System.nanoTime() - start;
+    }
+
+    private long timeSerenityRun(List<String> storyPaths) throws IOException {
+        File outputDirectory = Files.createTempDirectory("synthetic-output").toFile();
+        SyntheticStories syntheticStories = new SyntheticStories(environmentVariablesFor(outputDirectory), storyPaths);
+        try {
+            SerenityReportingRunner runner = new SerenityReportingRunner(SyntheticStories.class, syntheticStories);
+            long start = System.nanoTime();
+            runner.run(new RunNotifier());
+            return System.nanoTime() - start;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not run the synthetic suite", e);
+        } finally {
+            deleteRecursively(outputDirectory);
+        }
+    }
+
+    static EnvironmentVariables environmentVariablesFor(File outputDirectory) {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.getAbsolutePath());
+        environmentVariables.setProperty("webdriver.driver", "provided");
+        environmentVariables.setProperty("webdriver.provided.type", "stub");
+        environmentVariables.setProperty("webdriver.provided.stub", StubDriverSource.class.getName());
+        return environmentVariables;
+    }
+
+    private static String format(double micros) {
+        return String.format(Locale.ROOT, "%.2f", micros);
+    }
+
+    static void deleteRecursively(File directory) throws IOException {
+        Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static Properties load(File file) throws IOException {
+        Properties properties = new Properties();
+        if (file.exists()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    static void store(Properties properties, File file, String comment) throws IOException {
+        if (file.getParentFile() != null) {
+            Files.createDirectories(file.getParentFile().toPath());
+        }
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            properties.store(out, comment);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package net.serenity_bdd.jbehave.perf;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A generated suite shaped like a large real-world project, for scale testing: many stories in nested folders,
+ * many step classes with many patterns each, chains of given stories and scenarios with large example tables.
+ * The step classes are compiled with the system Java compiler (so this needs a JDK), next to the stories, in a
+ * directory that is meant to be put on the class path. The suite is generated from a fixed seed, so the same
+ * parameters always give the same suite.
+ */
+public class LargeSuite {
+
+    public static final String STORY_FOLDER = "large";
+    public static final String PRECONDITION_FOLDER = "preconditions";
+    public static final String STEPS_PACKAGE = "generated.large.steps";
+
+    private static final int STORIES_PER_FOLDER = 50;
+    private static final long SEED = 20150601L;
+    private static final String[] KEYWORDS = {"Given", "When", "Then"};
+
+    private final int stories;
+    private final int scenariosPerStory;
+    private final int stepsPerScenario;
+    private final int stepClasses;
+    private final int patternsPerClass;
+    private final int givenStoryDepth;
+    private final int exampleRows;
+
+    public LargeSuite(int stories, int scenariosPerStory, int stepsPerScenario, int stepClasses, int patternsPerClass,
+                      int givenStoryDepth, int exampleRows) {
+        this.stories = stories;
+        this.scenariosPerStory = scenariosPerStory;
+        this.stepsPerScenario = stepsPerScenario;
+        this.stepClasses = stepClasses;
+        this.patternsPerClass = patternsPerClass;
+        this.givenStoryDepth = givenStoryDepth;
+        this.exampleRows = exampleRows;
+    }
+
+    public int getStoryCount() {
+        return stories;
+    }
+
+    /**
+     * The number of scenarios run, counting each example row and each given story as a scenario.
+     */
+    public long getScenarioCount() {
+        return (long) stories * (scenariosPerStory - 1 + Math.max(1, exampleRows) + givenStoryDepth);
+    }
+
+    public long getStepCount() {
+        return getScenarioCount() * stepsPerScenario;
+    }
+
+    public int getPatternCount() {
+        return stepClasses * patternsPerClass;
+    }
+
+    /**
+     * Write the stories and compile the step classes into the given root directory.
+     */
+    public void writeTo(File rootDirectory) throws IOException {
+        writeStepClasses(rootDirectory);
+        writeStories(rootDirectory, new Random(SEED));
+    }
+
+    private void writeStepClasses(File rootDirectory) throws IOException {
+        File sourceDirectory = new File(rootDirectory, "generated-sources");
+        File packageDirectory = new File(sourceDirectory, STEPS_PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory.toPath());
+        List<String> compilerArguments = new ArrayList<>();
+        compilerArguments.add("-classpath");
+        compilerArguments.add(System.getProperty("java.class.path"));
+        compilerArguments.add("-d");
+        compilerArguments.add(rootDirectory.getPath());
+        for (int stepClass = 0; stepClass < stepClasses; stepClass++) {
+            File source = new File(packageDirectory, stepClassName(stepClass) + ".java");
+            write(source, stepClassSource(stepClass));
+            compilerArguments.add(source.getPath());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The large suite needs a JDK to compile its step classes");
+        }
+        if (compiler.run(null, null, null, compilerArguments.toArray(new String[compilerArguments.size()])) != 0) {
+            throw new IllegalStateException("Could not compile the generated step classes");
+        }
+    }
+
+    String stepClassSource(int stepClass) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(STEPS_PACKAGE).append(";\n\n");
+        source.append("public class ").append(stepClassName(stepClass)).append(" {\n");
+        for (int pattern = 0; pattern < patternsPerClass; pattern++) {
+            String keyword = KEYWORDS[pattern % KEYWORDS.length];
+            source.append("    @org.jbehave.core.annotations.").append(keyword)
+                  .append("(\"").append(stepText(stepClass, pattern, "$value")).append("\")\n");
+            source.append("    public void step").append(pattern).append("(String value) {}\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private void writeStories(File rootDirectory, Random random) throws IOException {
+        for (int story = 0; story < stories; story++) {
+            for (int level = 1; level <= givenStoryDepth; level++) {
+                write(new File(rootDirectory, preconditionPath(story, level)), preconditionText(story, level, random));
+            }
+            write(new File(rootDirectory, storyPath(story)), storyText(story, random));
+        }
+    }
+
+    /**
+     * Each precondition in a chain depends on the one below it, and the story itself on the top of its chain.
+     */
+    private String preconditionText(int story, int level, Random random) {
+        StringBuilder text = new StringBuilder();
+        if (level > 1) {
+            text.append("GivenStories: ").append(preconditionPath(story, level - 1)).append("\n\n");
+        }
+        text.append("Scenario: precondition ").append(level).append("\n");
+        appendSteps(text, random, Integer.toString(level));
+        return text.toString();
+    }
+
+    String storyText(int story, Random random) {
+        StringBuilder text = new StringBuilder();
+        text.append("Meta:\n@feature feature_").append(story / STORIES_PER_FOLDER)
+            .append("\n@story ").append(story).append("\n\n");
+        text.append("Narrative:\nIn order to test how the plugin scales\n")
+            .append("As a maintainer\nI want to run a suite as large as the largest real ones\n\n");
+        if (givenStoryDepth > 0) {
+            text.append("GivenStories: ").append(preconditionPath(story, givenStoryDepth)).append("\n\n");
+        }
+        for (int scenario = 1; scenario <= scenariosPerStory; scenario++) {
+            boolean withExamples = (scenario == scenariosPerStory) && exampleRows > 0;
+            text.append("Scenario: scenario ").append(scenario).append("\n");
+            text.append("Meta:\n@scenario ").append(scenario).append("\n\n");
+            appendSteps(text, random, withExamples ? "<value>" : Integer.toString(scenario));
+            if (withExamples) {
+                text.append("\nExamples:\n|value|description|\n");
+                for (int row = 0; row < exampleRows; row++) {
+                    text.append("|").append(row).append("|example row ").append(row).append("|\n");
+                }
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private void appendSteps(StringBuilder text, Random random, String value) {
+        for (int step = 0; step < stepsPerScenario; step++) {
+            int stepClass = random.nextInt(stepClasses);
+            int pattern = random.nextInt(patternsPerClass);
+            text.append(KEYWORDS[pattern % KEYWORDS.length]).append(" ")
+                .append(stepText(stepClass, pattern, value)).append("\n");
+        }
+    }
+
+    /**
+     * Step patterns share long prefixes, as they tend to in real projects, so that matching them is not trivial.
+     */
+    private String stepText(int stepClass, int pattern, String value) {
+        return "the generated step " + pattern + " of the capability " + stepClass + " is used with " + value;
+    }
+
+    private String stepClassName(int stepClass) {
+        return String.format("CapabilitySteps%04d", stepClass);
+    }
+
+    private String storyPath(int story) {
+        return String.format("%s/feature_%03d/story_%05d.story", STORY_FOLDER, story / STORIES_PER_FOLDER, story);
+    }
+
+    private String preconditionPath(int story, int level) {
+        return String.format("%s/chain_%05d_level_%d.story", PRECONDITION_FOLDER, story, level);
+    }
+
+    private void write(File file, String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,135 @@
+package net.serenity_bdd.jbehave.perf;
+
+import net.serenity_bdd.jbehave.runners.SerenityReportingRunner;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Properties;
+
+/**
+ * Runs a generated {@link LargeSuite} end to end through the {@link SerenityReportingRunner}, with a stub driver,
+ * and records the wall time, the peak heap usage and the time spent in garbage collection.
+ * Run it in a fresh JVM with a fixed heap size, so that results can be compared from one change to the next.
+ * <p>
+ * Usage: LargeSuiteRun stories scenarios steps stepClasses patternsPerClass givenStoryDepth exampleRows resultFile
+ */
+public class LargeSuiteRun {
+
+    private final LargeSuite suite;
+
+    public LargeSuiteRun(LargeSuite suite) {
+        this.suite = suite;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 8) {
+            System.err.println("Usage: LargeSuiteRun stories scenarios steps stepClasses patternsPerClass "
+                               + "givenStoryDepth exampleRows resultFile");
+            System.exit(2);
+        }
+        LargeSuite suite = new LargeSuite(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+                                          Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                                          Integer.parseInt(args[4]), Integer.parseInt(args[5]),
+                                          Integer.parseInt(args[6]));
+        Properties result = new LargeSuiteRun(suite).measure();
+        FrameworkOverhead.store(result, new File(args[7]), "Large suite run measured by "
+                                                           + LargeSuiteRun.class.getSimpleName());
+        System.out.println("Large suite run: " + result);
+    }
+
+    public Properties measure() throws IOException {
+        File suiteDirectory = Files.createTempDirectory("large-suite").toFile();
+        File outputDirectory = Files.createTempDirectory("large-suite-output").toFile();
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            long generationStart = System.nanoTime();
+            suite.writeTo(suiteDirectory);
+            long generationTime = System.nanoTime() - generationStart;
+
+            try (URLClassLoader suiteClassLoader = new URLClassLoader(new URL[]{suiteDirectory.toURI().toURL()},
+                                                                       LargeSuiteRun.class.getClassLoader())) {
+                Thread.currentThread().setContextClassLoader(suiteClassLoader);
+                System.gc();
+                resetPeakHeapUsage();
+                long gcTimeBefore = totalGarbageCollectionTime();
+                long gcCountBefore = totalGarbageCollections();
+
+                long start = System.nanoTime();
+                run(outputDirectory);
+                long wallTime = System.nanoTime() - start;
+
+                Properties result = new Properties();
+                result.setProperty("stories", Integer.toString(suite.getStoryCount()));
+                result.setProperty("scenarios", Long.toString(suite.getScenarioCount()));
+                result.setProperty("steps", Long.toString(suite.getStepCount()));
+                result.setProperty("step.patterns", Integer.toString(suite.getPatternCount()));
+                result.setProperty("generation.time.millis", Long.toString(generationTime / 1000000));
+                result.setProperty("wall.time.millis", Long.toString(wallTime / 1000000));
+                result.setProperty("peak.heap.bytes", Long.toString(peakHeapUsage()));
+                result.setProperty("max.heap.bytes", Long.toString(Runtime.getRuntime().maxMemory()));
+                result.setProperty("gc.time.millis", Long.toString(totalGarbageCollectionTime() - gcTimeBefore));
+                result.setProperty("gc.count", Long.toString(totalGarbageCollections() - gcCountBefore));
+                return result;
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+            FrameworkOverhead.deleteRecursively(suiteDirectory);
+            FrameworkOverhead.deleteRecursively(outputDirectory);
+        }
+    }
+
+    private void run(File outputDirectory) {
+        LargeSuiteStories stories = new LargeSuiteStories(FrameworkOverhead.environmentVariablesFor(outputDirectory));
+        try {
+            new SerenityReportingRunner(LargeSuiteStories.class, stories).run(new RunNotifier());
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not run the large suite", e);
+        }
+    }
+
+    private void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * The sum of the peaks of each heap pool: the pools do not all peak at the same time, so this is an upper bound
+     * of the peak heap usage, but it is stable enough to compare runs.
+     */
+    private long peakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private long totalGarbageCollectionTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    private long totalGarbageCollections() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+}
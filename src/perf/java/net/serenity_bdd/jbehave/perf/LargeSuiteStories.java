@@ -0,0 +1,24 @@
+package net.serenity_bdd.jbehave.perf;
+
+import net.serenity_bdd.jbehave.SerenityStories;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.SystemPropertiesConfiguration;
+
+/**
+ * Runs the stories of a {@link LargeSuite} through Serenity, finding the stories and the step classes on the
+ * class path as a real project would, without any JBehave report formats.
+ */
+public class LargeSuiteStories extends SerenityStories {
+
+    public LargeSuiteStories(EnvironmentVariables environmentVariables) {
+        super(environmentVariables);
+        setSystemConfiguration(new SystemPropertiesConfiguration(environmentVariables));
+        findStoriesIn(LargeSuite.STORY_FOLDER);
+        useFormats();
+    }
+
+    @Override
+    protected String getRootPackage() {
+        return LargeSuite.STEPS_PACKAGE;
+    }
+}
@@ -0,0 +1,43 @@
+package net.serenity_bdd.jbehave.perf;
+
+import net.thucydides.core.webdriver.DriverSource;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Provides a WebDriver that does nothing, so that the synthetic suite never starts a browser.
+ * None of the WebDriver methods return primitives, so apart from the Object methods every call returns null.
+ */
+public class StubDriverSource implements DriverSource {
+
+    @Override
+    public WebDriver newDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                                                  new Class<?>[]{WebDriver.class},
+                                                  new StubDriver());
+    }
+
+    @Override
+    public boolean takesScreenshots() {
+        return false;
+    }
+
+    private static class StubDriver implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "StubDriver";
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package net.serenity_bdd.jbehave.perf;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+
+/**
+ * Step definitions that do nothing, so that running the synthetic suite only measures the framework.
+ */
+public class SyntheticSteps {
+
+    @Given("a synthetic precondition $number")
+    public void aSyntheticPrecondition(int number) {
+    }
+
+    @When("a synthetic action $number")
+    public void aSyntheticAction(int number) {
+    }
+
+    @Then("a synthetic outcome $number")
+    public void aSyntheticOutcome(int number) {
+    }
+}
@@ -0,0 +1,27 @@
+package net.serenity_bdd.jbehave.perf;
+
+import net.serenity_bdd.jbehave.SerenityStories;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.SystemPropertiesConfiguration;
+
+import java.util.List;
+
+/**
+ * Runs the stories of a {@link SyntheticSuite} through Serenity, without any JBehave report formats.
+ */
+public class SyntheticStories extends SerenityStories {
+
+    private final List<String> storyPaths;
+
+    public SyntheticStories(EnvironmentVariables environmentVariables, List<String> storyPaths) {
+        super(environmentVariables);
+        setSystemConfiguration(new SystemPropertiesConfiguration(environmentVariables));
+        this.storyPaths = storyPaths;
+        useFormats();
+    }
+
+    @Override
+    public List<String> storyPaths() {
+        return storyPaths;
+    }
+}
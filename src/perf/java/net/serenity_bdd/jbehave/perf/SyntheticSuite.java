@@ -0,0 +1,73 @@
+package net.serenity_bdd.jbehave.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A generated suite of stories, each with the same number of scenarios and steps, using the {@link SyntheticSteps}.
+ * The stories are written under a "synthetic" folder of the given root directory, which is meant to be put on the
+ * class path.
+ */
+public class SyntheticSuite {
+
+    public static final String STORY_FOLDER = "synthetic";
+
+    private static final String[] STEP_KEYWORDS = {"Given a synthetic precondition ", "When a synthetic action ",
+                                                   "Then a synthetic outcome "};
+
+    private final int stories;
+    private final int scenariosPerStory;
+    private final int stepsPerScenario;
+
+    public SyntheticSuite(int stories, int scenariosPerStory, int stepsPerScenario) {
+        this.stories = stories;
+        this.scenariosPerStory = scenariosPerStory;
+        this.stepsPerScenario = stepsPerScenario;
+    }
+
+    public int getScenarioCount() {
+        return stories * scenariosPerStory;
+    }
+
+    public int getStepCount() {
+        return getScenarioCount() * stepsPerScenario;
+    }
+
+    /**
+     * Write the stories, and return their class path locations.
+     */
+    public List<String> writeTo(File rootDirectory) throws IOException {
+        File storyDirectory = new File(rootDirectory, STORY_FOLDER);
+        Files.createDirectories(storyDirectory.toPath());
+        List<String> storyPaths = new ArrayList<>();
+        for (int story = 1; story <= stories; story++) {
+            String storyName = String.format("synthetic_story_%04d.story", story);
+            Files.write(new File(storyDirectory, storyName).toPath(),
+                        storyText(story).getBytes(StandardCharsets.UTF_8));
+            storyPaths.add(STORY_FOLDER + "/" + storyName);
+        }
+        return storyPaths;
+    }
+
+    String storyText(int story) {
+        StringBuilder text = new StringBuilder();
+        text.append("Meta:\n@synthetic\n@story ").append(story).append("\n\n");
+        text.append("Narrative:\nIn order to measure the framework overhead\n")
+            .append("As a maintainer\nI want to run steps that do nothing\n\n");
+        for (int scenario = 1; scenario <= scenariosPerStory; scenario++) {
+            text.append("Scenario: synthetic scenario ").append(scenario).append("\n");
+            text.append("Meta:\n@scenario ").append(scenario).append("\n\n");
+            for (int step = 0; step < stepsPerScenario; step++) {
+                text.append(STEP_KEYWORDS[Math.min(step * STEP_KEYWORDS.length / stepsPerScenario,
+                                                   STEP_KEYWORDS.length - 1)])
+                    .append(step).append("\n");
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+}
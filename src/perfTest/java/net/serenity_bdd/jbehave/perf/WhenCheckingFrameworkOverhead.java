@@ -0,0 +1,45 @@
+package net.serenity_bdd.jbehave.perf;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static net.serenity_bdd.jbehave.perf.FrameworkOverhead.PER_SCENARIO_OVERHEAD;
+import static net.serenity_bdd.jbehave.perf.FrameworkOverhead.PER_STEP_OVERHEAD;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenCheckingFrameworkOverhead {
+
+    private Properties overheads(String perStep, String perScenario) {
+        Properties overheads = new Properties();
+        overheads.setProperty(PER_STEP_OVERHEAD, perStep);
+        overheads.setProperty(PER_SCENARIO_OVERHEAD, perScenario);
+        return overheads;
+    }
+
+    @Test
+    public void should_accept_overheads_within_the_allowed_regression() {
+        List<String> regressions = FrameworkOverhead.regressionsIn(overheads("11.9", "95.0"),
+                                                                   overheads("10.0", "100.0"), 20);
+
+        assertThat(regressions).isEmpty();
+    }
+
+    @Test
+    public void should_report_overheads_that_grew_by_more_than_the_allowed_regression() {
+        List<String> regressions = FrameworkOverhead.regressionsIn(overheads("12.5", "100.0"),
+                                                                   overheads("10.0", "100.0"), 20);
+
+        assertThat(regressions).hasSize(1);
+        assertThat(regressions.get(0)).contains(PER_STEP_OVERHEAD);
+    }
+
+    @Test
+    public void should_fail_when_there_is_no_baseline() {
+        List<String> regressions = FrameworkOverhead.regressionsIn(overheads("10.0", "100.0"), new Properties(), 20);
+
+        assertThat(regressions).hasSize(2);
+        assertThat(regressions.get(0)).contains("No baseline");
+    }
+}
@@ -0,0 +1,35 @@
+package net.serenity_bdd.jbehave;
+
+import net.thucydides.core.webdriver.DriverSource;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * A provided driver that only counts how many browsers Serenity asked for.
+ */
+public class CountingDriverSource implements DriverSource {
+
+    private static final AtomicInteger driversCreated = new AtomicInteger();
+
+    public static void reset() {
+        driversCreated.set(0);
+    }
+
+    public static int driversCreated() {
+        return driversCreated.get();
+    }
+
+    @Override
+    public WebDriver newDriver() {
+        driversCreated.incrementAndGet();
+        return mock(WebDriver.class);
+    }
+
+    @Override
+    public boolean takesScreenshots() {
+        return false;
+    }
+}
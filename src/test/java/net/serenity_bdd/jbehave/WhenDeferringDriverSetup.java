@@ -0,0 +1,117 @@
+package net.serenity_bdd.jbehave;
+
+import net.serenity_bdd.jbehave.metrics.StepTimings;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.Configuration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenDeferringDriverSetup extends AbstractJBehaveStory {
+
+    final static class AnApiStorySample extends SerenityStories {
+        AnApiStorySample(String storyName, Configuration configuration, EnvironmentVariables environmentVariables) {
+            setEnvironmentVariables(environmentVariables);
+            setSystemConfiguration(configuration);
+            findStoriesCalled(storyName);
+        }
+
+        @Override
+        protected String getRootPackage() {
+            return "net.serenity_bdd.jbehave.steps.api";
+        }
+    }
+
+    @Before
+    public void useACountingDriver() {
+        CountingDriverSource.reset();
+        environmentVariables.setProperty("webdriver.driver", "provided");
+        environmentVariables.setProperty("webdriver.provided.type", "counting");
+        environmentVariables.setProperty("webdriver.provided.counting", CountingDriverSource.class.getName());
+        environmentVariables.setProperty(SerenityJBehaveSystemProperties.STEP_TIMINGS.getName(), "true");
+        stepTimings().clear();
+    }
+
+    @Test
+    public void a_story_tagged_with_driver_none_should_never_open_a_browser() throws Throwable {
+        run(new AnApiStorySample("anApiOnlyBehaviorWithNoDriver.story", systemConfiguration, environmentVariables));
+
+        assertThat(CountingDriverSource.driversCreated()).isEqualTo(0);
+        assertThat(onlyOutcomeResult()).isEqualTo(TestResult.SUCCESS);
+    }
+
+    @Test
+    public void a_story_tagged_with_driver_none_should_not_set_up_the_driver_support() throws Throwable {
+        run(new AnApiStorySample("anApiOnlyBehaviorWithNoDriver.story", systemConfiguration, environmentVariables));
+
+        assertThat(stepTimings().getPhases().containsKey(driverSupportInitialization())).isFalse();
+    }
+
+    @Test
+    public void the_first_story_on_a_thread_should_not_set_up_the_driver_support_to_create_its_steps()
+            throws Throwable {
+        runOnANewThread(new AnApiStorySample("anApiOnlyBehaviorWithNoDriver.story",
+                                             systemConfiguration, environmentVariables));
+
+        assertThat(stepTimings().getPhases().containsKey(driverSupportInitialization())).isFalse();
+        assertThat(onlyOutcomeResult()).isEqualTo(TestResult.SUCCESS);
+    }
+
+    @Test
+    public void stories_without_deferred_driver_setup_should_set_up_the_driver_support_before_the_story()
+            throws Throwable {
+        run(new AnApiStorySample("anApiOnlyBehavior.story", systemConfiguration, environmentVariables));
+
+        assertThat(stepTimings().getPhases().get(driverSupportInitialization()).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void stories_with_lazy_driver_setup_should_not_open_a_browser_for_steps_that_do_not_need_one()
+            throws Throwable {
+        environmentVariables.setProperty(SerenityJBehaveSystemProperties.LAZY_DRIVER_SETUP.getName(), "true");
+
+        run(new AnApiStorySample("anApiOnlyBehavior.story", systemConfiguration, environmentVariables));
+
+        assertThat(CountingDriverSource.driversCreated()).isEqualTo(0);
+        assertThat(onlyOutcomeResult()).isEqualTo(TestResult.SUCCESS);
+    }
+
+    private void runOnANewThread(final SerenityStories stories) throws Throwable {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread storyThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    WhenDeferringDriverSetup.this.run(stories);
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            }
+        });
+        storyThread.start();
+        storyThread.join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private String driverSupportInitialization() {
+        return StepTimings.Phase.DRIVER_SUPPORT_INITIALIZATION.getName();
+    }
+
+    private StepTimings stepTimings() {
+        return StepTimings.configuredBy(environmentVariables);
+    }
+
+    private TestResult onlyOutcomeResult() throws Exception {
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes).hasSize(1);
+        return outcomes.get(0).getResult();
+    }
+}
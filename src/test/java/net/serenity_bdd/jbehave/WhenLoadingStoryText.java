@@ -0,0 +1,68 @@
+package net.serenity_bdd.jbehave;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenLoadingStoryText {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+
+    @After
+    public void restoreClassLoader() {
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+        UTF8StoryLoader.clearCache();
+    }
+
+    @Test
+    public void should_load_story_text_from_the_classpath() {
+        String text = new UTF8StoryLoader().loadResourceAsText("stories/aDataDrivenBehavior.story");
+
+        assertThat(text).contains("Scenario: data-driven scenario 1");
+    }
+
+    @Test
+    public void should_only_read_a_story_once() {
+        String firstRead = new UTF8StoryLoader().loadResourceAsText("stories/aDataDrivenBehavior.story");
+        String secondRead = new UTF8StoryLoader().loadResourceAsText("stories/aDataDrivenBehavior.story");
+
+        assertThat(secondRead).isSameAs(firstRead);
+    }
+
+    @Test
+    public void should_read_a_story_again_if_its_file_has_changed() throws Exception {
+        File storyDirectory = temporaryFolder.newFolder("stories");
+        File story = new File(storyDirectory, "changing.story");
+        FileUtils.writeStringToFile(story, "Scenario: first version", "UTF-8");
+        Thread.currentThread().setContextClassLoader(
+                new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, originalClassLoader));
+        UTF8StoryLoader loader = new UTF8StoryLoader();
+
+        assertThat(loader.loadResourceAsText("stories/changing.story")).isEqualTo("Scenario: first version");
+
+        FileUtils.writeStringToFile(story, "Scenario: second, longer version", "UTF-8");
+
+        assertThat(loader.loadResourceAsText("stories/changing.story")).isEqualTo("Scenario: second, longer version");
+    }
+
+    @Test
+    public void should_load_stories_with_the_class_loader_it_was_given() throws Exception {
+        File storyDirectory = temporaryFolder.newFolder("stories");
+        FileUtils.writeStringToFile(new File(storyDirectory, "elsewhere.story"), "Scenario: elsewhere", "UTF-8");
+        UTF8StoryLoader loader = new UTF8StoryLoader(
+                new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, originalClassLoader));
+
+        assertThat(loader.loadResourceAsText("stories/elsewhere.story")).isEqualTo("Scenario: elsewhere");
+    }
+}
@@ -0,0 +1,26 @@
+package net.serenity_bdd.jbehave;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenNormalizingStepTitles {
+
+    @Test
+    public void should_replace_parameter_markers_with_braces() {
+        assertThat(ParameterMarkers.normalized("Given a user called \uff5fJoe\uff60 aged \uff5f42\uff60"))
+                .isEqualTo("Given a user called {Joe} aged {42}");
+    }
+
+    @Test
+    public void should_return_titles_without_markers_unchanged() {
+        String title = "Given a user called Joe";
+
+        assertThat(ParameterMarkers.normalized(title)).isSameAs(title);
+    }
+
+    @Test
+    public void should_handle_empty_titles() {
+        assertThat(ParameterMarkers.normalized("")).isEqualTo("");
+    }
+}
@@ -0,0 +1,52 @@
+package net.serenity_bdd.jbehave;
+
+import net.thucydides.core.model.TestTag;
+import org.jbehave.core.model.Meta;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenParsingMetaTags {
+
+    private Meta metaWith(String... namesAndValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            properties.setProperty(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return new Meta(properties);
+    }
+
+    @Test
+    public void should_combine_singular_and_plural_issue_properties() {
+        ParsedMeta parsedMeta = new ParsedMeta(metaWith("issue", "#1", "issues", "#2, #3"));
+
+        assertThat(parsedMeta.getIssues()).containsOnly("#1", "#2", "#3");
+    }
+
+    @Test
+    public void should_read_features_epics_and_tags() {
+        ParsedMeta parsedMeta = new ParsedMeta(metaWith("feature", "Checkout", "epic", "Shopping",
+                                                        "tags", "domain:sales, smoke"));
+
+        assertThat(parsedMeta.getFeaturesAndEpics()).containsOnly(TestTag.withName("Checkout").andType("feature"),
+                                                                  TestTag.withName("Shopping").andType("epic"));
+        assertThat(parsedMeta.getTags()).containsOnly(TestTag.withName("sales").andType("domain"),
+                                                      TestTag.withName("true").andType("smoke"));
+    }
+
+    @Test
+    public void should_recognize_pending_and_skipped_meta() {
+        assertThat(new ParsedMeta(metaWith("pending", "")).isPending()).isTrue();
+        assertThat(new ParsedMeta(metaWith("wip", "")).isSkipped()).isTrue();
+        assertThat(new ParsedMeta(metaWith("skip", "")).isSkipped()).isTrue();
+    }
+
+    @Test
+    public void should_parse_each_meta_instance_only_once() {
+        Meta meta = metaWith("tag", "smoke");
+
+        assertThat(ParsedMeta.from(meta)).isSameAs(ParsedMeta.from(meta));
+    }
+}
@@ -0,0 +1,101 @@
+package net.serenity_bdd.jbehave;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenParsingStories {
+
+    private final ExamplesTableFactory tableFactory = new ExamplesTableFactory();
+    private final StoryParser regexParser = new RegexStoryParser(new LocalizedKeywords(), tableFactory);
+    private final StoryParser serenityParser = new SerenityStoryParser(new LocalizedKeywords(), tableFactory);
+
+    @Test
+    public void should_parse_every_test_story_exactly_like_the_jbehave_parser() throws Exception {
+        File storyDirectory = new File(getClass().getClassLoader().getResource("stories").toURI());
+        Collection<File> storyFiles = FileUtils.listFiles(storyDirectory, new String[]{"story"}, true);
+
+        assertThat(storyFiles).isNotEmpty();
+        for (File storyFile : storyFiles) {
+            String storyAsText = FileUtils.readFileToString(storyFile, "UTF-8");
+            String storyPath = storyFile.getPath();
+
+            assertThat(describe(serenityParser.parseStory(storyAsText, storyPath)))
+                    .as(storyPath)
+                    .isEqualTo(describe(regexParser.parseStory(storyAsText, storyPath)));
+        }
+    }
+
+    @Test
+    public void should_parse_a_story_with_several_scenarios_and_examples() {
+        String storyAsText = "A story\n\nMeta:\n@tag domain:pricing\n\nNarrative:\nIn order to test\nAs a tester\nI want to parse\n\n"
+                             + "Scenario: first\nMeta:\n@issue #1\nGiven a step\nWhen another step\nThen a table:\n|a|b|\n|1|2|\n"
+                             + "Examples:\n|x|y|\n|1|2|\n|3|4|\n\n"
+                             + "Scenario: second\nGiven a step\n!-- a comment\nAnd a final step";
+
+        Story story = serenityParser.parseStory(storyAsText, "stories/sample.story");
+
+        assertThat(describe(story)).isEqualTo(describe(regexParser.parseStory(storyAsText, "stories/sample.story")));
+        assertThat(story.getScenarios()).hasSize(2);
+        assertThat(story.getScenarios().get(0).getExamplesTable().getRowCount()).isEqualTo(2);
+        assertThat(story.getScenarios().get(1).getSteps()).hasSize(3);
+    }
+
+    @Test
+    public void should_parse_a_story_without_scenarios() {
+        String storyAsText = "Narrative:\nIn order to test\nAs a tester\nI want to parse";
+
+        assertThat(describe(serenityParser.parseStory(storyAsText)))
+                .isEqualTo(describe(regexParser.parseStory(storyAsText)));
+    }
+
+    private String describe(Story story) {
+        StringBuilder description = new StringBuilder();
+        description.append("path: ").append(story.getPath()).append('\n')
+                   .append("name: ").append(story.getName()).append('\n')
+                   .append("description: ").append(story.getDescription().asString()).append('\n')
+                   .append("meta: ").append(describe(story.getMeta())).append('\n')
+                   .append("narrative: ").append(describe(story.getNarrative())).append('\n')
+                   .append("given stories: ").append(story.getGivenStories().asString()).append('\n')
+                   .append("lifecycle: ").append(story.getLifecycle().getBeforeSteps())
+                   .append(story.getLifecycle().getAfterSteps()).append('\n');
+        for (Scenario scenario : story.getScenarios()) {
+            description.append("scenario: ").append(scenario.getTitle()).append('\n')
+                       .append("  meta: ").append(describe(scenario.getMeta())).append('\n')
+                       .append("  given stories: ").append(scenario.getGivenStories().asString()).append('\n')
+                       .append("  steps: ").append(scenario.getSteps()).append('\n')
+                       .append("  examples: ").append(describe(scenario.getExamplesTable())).append('\n');
+        }
+        return description.toString();
+    }
+
+    private String describe(Meta meta) {
+        StringBuilder description = new StringBuilder();
+        for (String name : new TreeSet<>(meta.getPropertyNames())) {
+            description.append(name).append('=').append(meta.getProperty(name)).append(';');
+        }
+        return description.toString();
+    }
+
+    private String describe(Narrative narrative) {
+        return narrative.inOrderTo() + "|" + narrative.asA() + "|" + narrative.iWantTo() + "|" + narrative.soThat();
+    }
+
+    private String describe(ExamplesTable table) {
+        return table.getHeaders() + " " + table.getRows();
+    }
+}
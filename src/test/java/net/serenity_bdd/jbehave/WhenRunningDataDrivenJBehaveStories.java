@@ -99,5 +99,42 @@ public class WhenRunningDataDrivenJBehaveStories extends net.serenity_bdd.jbehav
         assertThat(table.getRows().get(2).getResult(), is(TestResult.SUCCESS));
     }
 
+    @Test
+    public void example_rows_can_be_streamed_to_the_examples_table_as_they_are_executed() throws Throwable {
+
+        // Given
+        environmentVariables.setProperty("stream.examples", "true");
+        SerenityStories story = newStory("aFailingDataDrivenBehavior.story");
+
+        // When
+        run(story);
+
+        // Then
+        List<TestOutcome> outcomes = loadTestOutcomes();
+
+        DataTable table = outcomes.get(0).getDataTable();
+        assertThat(table.getRows().size(), is(3));
+        assertThat(table.getRows().get(0).getResult(), is(TestResult.SUCCESS));
+        assertThat(table.getRows().get(1).getResult(), is(TestResult.FAILURE));
+        assertThat(table.getRows().get(2).getResult(), is(TestResult.SUCCESS));
+    }
+
+    @Test
+    public void examples_can_be_read_from_an_external_csv_file() throws Throwable {
+
+        // Given
+        SerenityStories story = newStory("aDataDrivenBehaviorWithExternalExamples.story");
+
+        // When
+        run(story);
+
+        // Then
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes.size(), is(1));
+        assertThat(outcomes.get(0).getResult(), is(TestResult.SUCCESS));
+        assertThat(outcomes.get(0).getDataTable().getRows().size(), is(3));
+        assertThat(outcomes.get(0).getTestSteps().get(2).getDescription(), containsString("12"));
+    }
+
 
 }
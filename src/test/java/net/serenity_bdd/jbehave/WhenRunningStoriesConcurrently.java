@@ -0,0 +1,59 @@
+package net.serenity_bdd.jbehave;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.Configuration;
+import org.jbehave.core.embedder.Embedder;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenRunningStoriesConcurrently extends AbstractJBehaveStory {
+
+    final static class StoriesOnSeveralThreads extends SerenityStories {
+        StoriesOnSeveralThreads(String storyNames, Configuration configuration,
+                                EnvironmentVariables environmentVariables) {
+            setEnvironmentVariables(environmentVariables);
+            setSystemConfiguration(configuration);
+            findStoriesCalled(storyNames);
+            Embedder embedder = new Embedder();
+            embedder.embedderControls().useThreads(3);
+            useEmbedder(embedder);
+        }
+    }
+
+    @Test
+    public void stories_running_on_different_threads_should_not_share_their_story_state() throws Throwable {
+        run(new StoriesOnSeveralThreads("aTaggedPendingBehaviorWithSeveralScenarios.story;"
+                                        + "aPassingBehaviorWithSeveralScenarios.story;"
+                                        + "aDataDrivenBehavior.story",
+                                        systemConfiguration, environmentVariables));
+
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes).hasSize(6);
+        for (TestOutcome outcome : outcomes) {
+            assertThat(outcome.getResult()).isEqualTo(expectedResultFor(outcome));
+        }
+    }
+
+    @Test
+    public void data_driven_stories_running_on_different_threads_should_keep_their_own_example_rows()
+            throws Throwable {
+        run(new StoriesOnSeveralThreads("aDataDrivenBehavior.story;aPendingDataDrivenBehavior.story",
+                                        systemConfiguration, environmentVariables));
+
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes).hasSize(4);
+        for (TestOutcome outcome : outcomes) {
+            assertThat(outcome.getDataTable().getRows()).hasSize(3);
+        }
+    }
+
+    private TestResult expectedResultFor(TestOutcome outcome) {
+        String storyPath = outcome.getUserStory().getPath();
+        return storyPath.contains("aTaggedPendingBehavior") ? TestResult.PENDING : TestResult.SUCCESS;
+    }
+}
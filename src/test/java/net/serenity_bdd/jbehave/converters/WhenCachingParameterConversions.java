@@ -0,0 +1,154 @@
+package net.serenity_bdd.jbehave.converters;
+
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.StepMonitor;
+import org.joda.time.DateTime;
+import org.joda.time.MutableDateTime;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WhenCachingParameterConversions {
+
+    enum Colour {RED, GREEN}
+
+    static class CountingColourConverter implements ParameterConverters.ParameterConverter {
+        int acceptCalls = 0;
+        int conversions = 0;
+
+        public boolean accept(Type type) {
+            acceptCalls++;
+            return type == Colour.class;
+        }
+
+        public Object convertValue(String value, Type type) {
+            conversions++;
+            return Colour.valueOf(value);
+        }
+    }
+
+    @Test
+    public void should_only_look_up_the_converter_for_a_type_once() {
+        CountingColourConverter colourConverter = new CountingColourConverter();
+        ParameterConverters converters = new CachingParameterConverters().addConverters(colourConverter);
+
+        converters.convert("RED", Colour.class);
+        converters.convert("GREEN", Colour.class);
+
+        assertThat(colourConverter.acceptCalls).isEqualTo(1);
+    }
+
+    static class TodayConverter implements ParameterConverters.ParameterConverter {
+        int days = 0;
+
+        public boolean accept(Type type) {
+            return type == Integer.class;
+        }
+
+        public Object convertValue(String value, Type type) {
+            return days++;
+        }
+    }
+
+    @Test
+    public void should_reuse_conversions_to_immutable_types_by_memoized_converters() {
+        CountingColourConverter colourConverter = new CountingColourConverter();
+        ParameterConverters converters = new CachingParameterConverters().addMemoizedConverters(colourConverter);
+
+        assertThat(converters.convert("RED", Colour.class)).isEqualTo(Colour.RED);
+        assertThat(converters.convert("RED", Colour.class)).isEqualTo(Colour.RED);
+
+        assertThat(colourConverter.conversions).isEqualTo(1);
+    }
+
+    @Test
+    public void should_convert_again_with_other_converters() {
+        ParameterConverters converters = new CachingParameterConverters().addConverters(new TodayConverter());
+
+        assertThat(converters.convert("today", Integer.class)).isEqualTo(0);
+        assertThat(converters.convert("today", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void should_reuse_conversions_by_the_standard_number_converter() {
+        ParameterConverters converters = new CachingParameterConverters();
+
+        assertThat(converters.convert("1000", Integer.class)).isSameAs(converters.convert("1000", Integer.class));
+        assertThat(converters.convert("100000", Long.class)).isSameAs(converters.convert("100000", Long.class));
+    }
+
+    @Test
+    public void should_still_use_the_standard_jbehave_converters() {
+        ParameterConverters converters = new CachingParameterConverters();
+
+        assertThat(converters.convert("42", Integer.class)).isEqualTo(42);
+        assertThat(converters.convert("some text", String.class)).isEqualTo("some text");
+    }
+
+    @Test
+    public void should_give_precedence_to_converters_added_later() {
+        CountingColourConverter first = new CountingColourConverter();
+        CountingColourConverter second = new CountingColourConverter();
+        ParameterConverters converters = new CachingParameterConverters().addConverters(first);
+        converters.convert("RED", Colour.class);
+
+        converters.addConverters(second);
+        converters.convert("RED", Colour.class);
+
+        assertThat(second.conversions).isEqualTo(1);
+    }
+
+    @Test
+    public void should_only_cache_immutable_values() {
+        assertThat(CachingParameterConverters.isImmutable(DateTime.class)).isTrue();
+        assertThat(CachingParameterConverters.isImmutable(Colour.class)).isTrue();
+        assertThat(CachingParameterConverters.isImmutable(int.class)).isTrue();
+        assertThat(CachingParameterConverters.isImmutable(MutableDateTime.class)).isFalse();
+        assertThat(CachingParameterConverters.isImmutable(Date.class)).isFalse();
+        assertThat(CachingParameterConverters.isImmutable(List.class)).isFalse();
+    }
+
+    @Test
+    public void should_pass_strings_through_without_asking_the_converters_again() {
+        CountingColourConverter colourConverter = new CountingColourConverter();
+        ParameterConverters converters = new CachingParameterConverters().addConverters(colourConverter);
+
+        assertThat(converters.convert("some text", String.class)).isEqualTo("some text");
+        assertThat(converters.convert("more text", String.class)).isEqualTo("more text");
+
+        assertThat(colourConverter.acceptCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void should_use_system_line_separators_in_strings_like_jbehave() {
+        ParameterConverters converters = new CachingParameterConverters();
+
+        assertThat(converters.convert("first\nsecond", String.class))
+                .isEqualTo(new ParameterConverters().convert("first\nsecond", String.class));
+    }
+
+    @Test(expected = ParameterConverters.ParameterConvertionFailed.class)
+    public void should_fail_for_types_that_no_converter_accepts() {
+        new CachingParameterConverters().convert("anything", Thread.class);
+    }
+
+    @Test
+    public void should_tell_the_step_monitor_about_cached_conversions() {
+        StepMonitor monitor = mock(StepMonitor.class);
+        CountingColourConverter colourConverter = new CountingColourConverter();
+        ParameterConverters converters = new CachingParameterConverters(monitor).addMemoizedConverters(colourConverter);
+
+        converters.convert("RED", Colour.class);
+        converters.convert("RED", Colour.class);
+
+        verify(monitor, times(2)).convertedValueOfType("RED", Colour.class, Colour.RED,
+                                                       CountingColourConverter.class);
+    }
+}
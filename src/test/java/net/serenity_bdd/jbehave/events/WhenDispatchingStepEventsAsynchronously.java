@@ -0,0 +1,276 @@
+package net.serenity_bdd.jbehave.events;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.steps.BaseStepListener;
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepListener;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class WhenDispatchingStepEventsAsynchronously {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final StepEventPipeline pipeline = new StepEventPipeline(true, 2);
+
+    @Test
+    public void should_leave_listeners_alone_unless_asked_to() {
+        StepListener listener = mock(StepListener.class);
+
+        StepEventPipeline pipeline = StepEventPipeline.configuredBy(new MockEnvironmentVariables());
+
+        assertThat(pipeline.isEnabled()).isFalse();
+        assertThat(pipeline.asynchronous(listener)).isSameAs(listener);
+    }
+
+    @Test
+    public void should_be_enabled_by_the_async_listeners_property() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("async.listeners", "true");
+
+        assertThat(StepEventPipeline.configuredBy(environmentVariables).isEnabled()).isTrue();
+    }
+
+    @Test
+    public void should_deliver_events_in_order_on_the_dispatcher_thread() {
+        StepListener listener = mock(StepListener.class);
+        final List<String> deliveredEvents = Collections.synchronizedList(new ArrayList<String>());
+        final List<String> deliveryThreads = Collections.synchronizedList(new ArrayList<String>());
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                deliveredEvents.add("started " + ((ExecutedStepDescription) invocation.getArguments()[0]).getTitle());
+                deliveryThreads.add(Thread.currentThread().getName());
+                return null;
+            }
+        }).when(listener).stepStarted(any(ExecutedStepDescription.class));
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                deliveredEvents.add("finished");
+                return null;
+            }
+        }).when(listener).stepFinished();
+
+        StepListener asynchronousListener = pipeline.asynchronous(listener);
+        List<String> expectedEvents = new ArrayList<>();
+        for (int step = 0; step < 10; step++) {
+            asynchronousListener.stepStarted(ExecutedStepDescription.withTitle("step " + step));
+            asynchronousListener.stepFinished();
+            expectedEvents.add("started step " + step);
+            expectedEvents.add("finished");
+        }
+        pipeline.flush();
+
+        assertThat(deliveredEvents).isEqualTo(expectedEvents);
+        assertThat(deliveryThreads).hasSize(10);
+        assertThat(deliveryThreads).excludes(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void should_deliver_calls_carrying_a_test_outcome_on_the_test_thread_after_the_earlier_events() {
+        StepListener listener = mock(StepListener.class);
+        final List<String> deliveredEvents = Collections.synchronizedList(new ArrayList<String>());
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                deliveredEvents.add("started on " + Thread.currentThread().getName());
+                return null;
+            }
+        }).when(listener).testStarted("a test");
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                deliveredEvents.add("finished on " + Thread.currentThread().getName());
+                return null;
+            }
+        }).when(listener).testFinished(any(TestOutcome.class));
+
+        StepListener asynchronousListener = pipeline.asynchronous(listener);
+        asynchronousListener.testStarted("a test");
+        asynchronousListener.testFinished(new TestOutcome("a_test"));
+
+        assertThat(deliveredEvents).isEqualTo(Arrays.asList("started on serenity-jbehave-step-events",
+                                                            "finished on " + Thread.currentThread().getName()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_deliver_example_rows_as_they_were_when_sent() {
+        StepListener listener = mock(StepListener.class);
+        final List<Map<String, String>> deliveredRows = Collections.synchronizedList(
+                new ArrayList<Map<String, String>>());
+        doAnswer(new Answer<Void>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Void answer(InvocationOnMock invocation) {
+                deliveredRows.add(new HashMap<>((Map<String, String>) invocation.getArguments()[0]));
+                return null;
+            }
+        }).when(listener).exampleStarted(anyMap());
+        Map<String, String> row = new HashMap<>();
+        row.put("symbol", "STK1");
+
+        pipeline.asynchronous(listener).exampleStarted(row);
+        row.put("symbol", "STK2");
+        pipeline.flush();
+
+        assertThat(deliveredRows).hasSize(1);
+        assertThat(deliveredRows.get(0).get("symbol")).isEqualTo("STK1");
+    }
+
+    @Test
+    public void should_keep_delivering_events_after_a_listener_fails() {
+        StepListener listener = mock(StepListener.class);
+        doThrow(new IllegalStateException("Listener failure")).when(listener).testStarted("a failing test");
+
+        StepListener asynchronousListener = pipeline.asynchronous(listener);
+        asynchronousListener.testStarted("a failing test");
+        asynchronousListener.testStarted("another test");
+        try {
+            pipeline.flush();
+        } catch (StepListenerException expected) {
+        }
+
+        verify(listener).testStarted("another test");
+    }
+
+    @Test
+    public void should_rethrow_a_listener_failure_on_the_next_flush_of_the_thread_that_sent_the_event() {
+        StepListener listener = mock(StepListener.class);
+        doThrow(new IllegalStateException("Listener failure")).when(listener).testStarted("a failing test");
+
+        pipeline.asynchronous(listener).testStarted("a failing test");
+        try {
+            pipeline.flush();
+            fail("The listener failure should have been rethrown");
+        } catch (StepListenerException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+
+        pipeline.flush();
+    }
+
+    @Test
+    public void should_not_rethrow_listener_failures_on_other_threads() throws InterruptedException {
+        StepListener listener = mock(StepListener.class);
+        doThrow(new IllegalStateException("Listener failure")).when(listener).testStarted("a failing test");
+        final StepListener asynchronousListener = pipeline.asynchronous(listener);
+
+        Thread otherTestThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                asynchronousListener.testStarted("a failing test");
+            }
+        });
+        otherTestThread.start();
+        otherTestThread.join();
+        pipeline.flush();
+
+        try {
+            pipeline.stop();
+            fail("Failures that no flush has reported should be rethrown when the pipeline stops");
+        } catch (StepListenerException expected) {
+        }
+    }
+
+    @Test
+    public void should_stop_the_dispatcher_thread() {
+        StepListener listener = mock(StepListener.class);
+        Set<Thread> otherDispatcherThreads = dispatcherThreads();
+
+        pipeline.asynchronous(listener).testStarted("a test");
+        assertThat(dispatcherThreads()).hasSize(otherDispatcherThreads.size() + 1);
+        pipeline.stop();
+
+        verify(listener).testStarted("a test");
+        assertThat(dispatcherThreads()).isEqualTo(otherDispatcherThreads);
+    }
+
+    @Test
+    public void should_restart_the_dispatcher_for_events_sent_after_it_stopped() {
+        StepListener listener = mock(StepListener.class);
+        StepListener asynchronousListener = pipeline.asynchronous(listener);
+
+        asynchronousListener.testStarted("a test");
+        pipeline.stop();
+        asynchronousListener.testStarted("another test");
+        pipeline.stop();
+
+        verify(listener).testStarted("another test");
+    }
+
+    @Test
+    public void should_make_the_listeners_of_an_event_bus_asynchronous_apart_from_the_base_step_listener()
+            throws IOException {
+        StepEventBus eventBus = StepEventBus.getEventBus();
+        BaseStepListener baseStepListener = new BaseStepListener(temporaryFolder.newFolder());
+        StepListener listener = mock(StepListener.class);
+        final List<String> deliveryThreads = Collections.synchronizedList(new ArrayList<String>());
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                deliveryThreads.add(Thread.currentThread().getName());
+                return null;
+            }
+        }).when(listener).testStarted("a test");
+        eventBus.dropAllListeners();
+        eventBus.registerListener(baseStepListener);
+        eventBus.registerListener(listener);
+        try {
+            pipeline.attachTo(eventBus);
+            pipeline.attachTo(eventBus);
+
+            eventBus.testStarted("a test");
+            pipeline.flush();
+
+            assertThat(baseStepListener.getTestOutcomes()).hasSize(1);
+            assertThat(deliveryThreads).isEqualTo(Collections.singletonList("serenity-jbehave-step-events"));
+        } finally {
+            eventBus.dropAllListeners();
+        }
+    }
+
+    private Set<Thread> dispatcherThreads() {
+        Set<Thread> dispatcherThreads = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("serenity-jbehave-step-events") && thread.isAlive()) {
+                dispatcherThreads.add(thread);
+            }
+        }
+        return dispatcherThreads;
+    }
+
+    @Test
+    public void should_handle_object_methods_itself() {
+        StepListener asynchronousListener = pipeline.asynchronous(mock(StepListener.class));
+
+        assertThat(asynchronousListener).isEqualTo(asynchronousListener);
+        assertThat(asynchronousListener.toString()).startsWith("Asynchronous ");
+    }
+}
@@ -0,0 +1,115 @@
+package net.serenity_bdd.jbehave.examples;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.steps.Parameters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenReadingExternalExampleTables {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File fileContaining(String name, String content) throws IOException {
+        File file = temporaryFolder.newFile(name);
+        FileUtils.writeStringToFile(file, content, "UTF-8");
+        return file;
+    }
+
+    @Test
+    public void should_read_the_headers_and_rows_of_a_csv_file() throws IOException {
+        ExternalExamplesTable table = ExternalExamplesTable.fromResource(
+                fileContaining("prices.csv", "symbol, price\nSTK1, 5.0\r\n\nSTK2, 11.0\n").getPath());
+
+        assertThat(table.getHeaders()).containsExactly("symbol", "price");
+        assertThat(table.getRowCount()).isEqualTo(2);
+        assertThat(table.getRow(1).get("symbol")).isEqualTo("STK2");
+        assertThat(table.getRow(1).get("price")).isEqualTo("11.0");
+    }
+
+    @Test
+    public void should_read_quoted_csv_values() throws IOException {
+        DelimitedDataFile dataFile = DelimitedDataFile.csv(
+                fileContaining("quoted.csv", "name,comment\n\"Smith, Joe\",\"said \"\"hi\"\"\nthen left\"\n"));
+
+        Map<String, String> row = dataFile.getRow(0);
+
+        assertThat(dataFile.getRowCount()).isEqualTo(1);
+        assertThat(row.get("name")).isEqualTo("Smith, Joe");
+        assertThat(row.get("comment")).isEqualTo("said \"hi\"\nthen left");
+    }
+
+    @Test
+    public void should_read_tab_separated_files() throws IOException {
+        ExternalExamplesTable table = ExternalExamplesTable.fromResource(
+                fileContaining("prices.tsv", "symbol\tprice\nSTK1\t5.0\n").getPath());
+
+        assertThat(table.getRows().get(0).get("price")).isEqualTo("5.0");
+    }
+
+    @Test
+    public void should_use_empty_values_for_missing_columns() throws IOException {
+        DelimitedDataFile dataFile = DelimitedDataFile.csv(fileContaining("short.csv", "a,b,c\n1,2\n"));
+
+        assertThat(dataFile.getRow(0).get("c")).isEqualTo("");
+    }
+
+    @Test
+    public void should_only_treat_single_csv_or_tsv_paths_as_external_tables() {
+        assertThat(ExternalExamplesTable.isReference("data/prices.csv")).isTrue();
+        assertThat(ExternalExamplesTable.isReference(" data/prices.TSV\n")).isTrue();
+        assertThat(ExternalExamplesTable.isReference("|symbol|price|\n|STK1|5.0|")).isFalse();
+        assertThat(ExternalExamplesTable.isReference("data/prices.table")).isFalse();
+    }
+
+    @Test
+    public void should_only_open_a_quoted_value_at_the_start_of_a_csv_value() throws IOException {
+        DelimitedDataFile dataFile = DelimitedDataFile.csv(
+                fileContaining("inches.csv", "item,size\nmonitor,27\" wide\ntablet,\"10\"\" screen\"\n"));
+
+        assertThat(dataFile.getRowCount()).isEqualTo(2);
+        assertThat(dataFile.getRow(0).get("size")).isEqualTo("27\" wide");
+        assertThat(dataFile.getRow(1).get("size")).isEqualTo("10\" screen");
+    }
+
+    @Test
+    public void should_convert_rows_to_step_parameters() throws IOException {
+        ExternalExamplesTable table = ExternalExamplesTable.fromResource(
+                fileContaining("orders.csv", "symbol,quantity\nSTK1,<lot>\nSTK2,25\n").getPath());
+
+        List<Parameters> rows = table.withNamedParameters(ImmutableMap.of("lot", "100")).getRowsAsParameters(true);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).valueAs("quantity", Integer.class)).isEqualTo(100);
+        assertThat(table.getRowAsParameters(1).valueAs("symbol", String.class)).isEqualTo("STK2");
+    }
+
+    @Test
+    public void should_read_the_rows_again_after_the_table_was_closed() throws IOException {
+        ExternalExamplesTable table = ExternalExamplesTable.fromResource(
+                fileContaining("reopened.csv", "symbol, price\nSTK1, 5.0\nSTK2, 11.0\n").getPath());
+        table.getRow(0);
+
+        table.close();
+
+        assertThat(table.getRowCount()).isEqualTo(2);
+        assertThat(table.getRow(1).get("price")).isEqualTo("11.0");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void should_not_allow_the_rows_of_an_external_table_to_be_changed() throws IOException {
+        ExternalExamplesTable table = ExternalExamplesTable.fromResource(
+                fileContaining("fixed.csv", "a\n1\n").getPath());
+
+        table.withRowValues(0, ImmutableMap.of("a", "2"));
+    }
+}
@@ -0,0 +1,58 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.model.Meta;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Every expression the native matcher compiles must give the same answer as JBehave's Groovy matcher.
+ */
+public class WhenComparingNativeAndGroovyMetafilters {
+
+    private static final List<Meta> METAS = Arrays.asList(
+            new Meta(Arrays.asList("smoke", "env uat", "owner bill")),
+            new Meta(Arrays.asList("regression", "skip", "env prod")),
+            new Meta(Arrays.asList("smoke true", "env", "wip")),
+            Meta.EMPTY);
+
+    private static final List<String> EXPRESSIONS = Arrays.asList(
+            "smoke",
+            "!smoke",
+            "missing",
+            "smoke == true",
+            "smoke == false",
+            "missing == false",
+            "missing == true",
+            "env == true",
+            "env == 'uat'",
+            "env != 'uat'",
+            "missing == 'uat'",
+            "missing != 'uat'",
+            "smoke == 'true'",
+            "(smoke || regression) && !skip && !ignore",
+            "smoke || regression && skip",
+            "!(smoke || regression)",
+            "true == false",
+            "wip == true && env == true");
+
+    @Test
+    public void native_and_groovy_matchers_should_agree() {
+        for (String expression : EXPRESSIONS) {
+            NativeMetaMatcher nativeMatcher = new NativeMetaMatcher();
+            nativeMatcher.parse("groovy: " + expression);
+            assertThat(nativeMatcher.isNative()).as(expression).isTrue();
+
+            MetaFilter groovyFilter = new MetaFilter("groovy: " + expression);
+            for (Meta meta : METAS) {
+                assertThat(nativeMatcher.match(meta))
+                        .as(expression + " for " + meta.getPropertyNames())
+                        .isEqualTo(groovyFilter.allow(meta));
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package net.serenity_bdd.jbehave.metafilters;
+
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.model.Meta;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenMatchingNativeMetafilters {
+
+    private final Meta smokeTestInUat = new Meta(Arrays.asList("smoke", "env uat", "owner bill"));
+    private final Meta skippedRegressionTest = new Meta(Arrays.asList("regression", "skip", "env prod"));
+
+    @Test
+    public void should_treat_a_property_name_as_a_test_of_its_presence() {
+        assertThat(matches("smoke", smokeTestInUat)).isTrue();
+        assertThat(matches("smoke", skippedRegressionTest)).isFalse();
+    }
+
+    @Test
+    public void should_compare_property_values() {
+        assertThat(matches("env == 'uat'", smokeTestInUat)).isTrue();
+        assertThat(matches("env == \"uat\"", skippedRegressionTest)).isFalse();
+        assertThat(matches("env != 'uat'", skippedRegressionTest)).isTrue();
+        assertThat(matches("missing == 'uat'", smokeTestInUat)).isFalse();
+    }
+
+    @Test
+    public void should_combine_conditions_with_boolean_operators() {
+        assertThat(matches("(smoke || regression) && !skip && !ignore", smokeTestInUat)).isTrue();
+        assertThat(matches("(smoke || regression) && !skip && !ignore", skippedRegressionTest)).isFalse();
+        assertThat(matches("smoke || regression && skip", skippedRegressionTest)).isTrue();
+        assertThat(matches("!(smoke || regression)", smokeTestInUat)).isFalse();
+    }
+
+    @Test
+    public void should_understand_boolean_literals() {
+        assertThat(matches("true==false", smokeTestInUat)).isFalse();
+        assertThat(matches("true", smokeTestInUat)).isTrue();
+    }
+
+    @Test
+    public void should_compile_the_expressions_it_supports() {
+        assertThat(matcherFor("groovy: (smoke) && !skip && !ignore").isNative()).isTrue();
+    }
+
+    @Test
+    public void should_leave_other_expressions_to_groovy() {
+        assertThat(matcherFor("groovy: env ==~ /u.*/").isNative()).isFalse();
+        assertThat(matcherFor("groovy: owner.startsWith('b')").isNative()).isFalse();
+        assertThat(matcherFor("groovy: priority == 1").isNative()).isFalse();
+    }
+
+    @Test(expected = UnsupportedMetaExpressionException.class)
+    public void should_reject_unbalanced_expressions() {
+        MetaExpressionParser.compile("(smoke || regression");
+    }
+
+    @Test
+    public void should_be_used_by_jbehave_for_groovy_metafilters() {
+        MetaFilter filter = new MetaFilter("groovy: (smoke) && !skip", new NullEmbedderMonitor(),
+                                           NativeMetaMatcher.metaMatchers());
+
+        assertThat(filter.allow(smokeTestInUat)).isTrue();
+        assertThat(filter.allow(skippedRegressionTest)).isFalse();
+    }
+
+    private boolean matches(String expression, Meta meta) {
+        return matcherFor("groovy: " + expression).match(meta);
+    }
+
+    private NativeMetaMatcher matcherFor(String filter) {
+        NativeMetaMatcher matcher = new NativeMetaMatcher();
+        matcher.parse(filter);
+        return matcher;
+    }
+}
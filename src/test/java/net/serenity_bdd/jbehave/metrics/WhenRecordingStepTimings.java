@@ -0,0 +1,91 @@
+package net.serenity_bdd.jbehave.metrics;
+
+import net.serenity_bdd.jbehave.ParameterMarkers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenRecordingStepTimings {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_report_percentiles_to_within_the_bucket_precision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10000; micros++) {
+            histogram.record(micros);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(10000);
+        assertThat(histogram.getValueAtPercentile(50)).isGreaterThanOrEqualTo(5000).isLessThanOrEqualTo(5000 * 17 / 16);
+        assertThat(histogram.getValueAtPercentile(99)).isGreaterThanOrEqualTo(9900).isLessThanOrEqualTo(10000);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10000);
+    }
+
+    @Test
+    public void should_count_small_values_exactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(3);
+        assertThat(histogram.getTotalMicros()).isEqualTo(10);
+    }
+
+    @Test
+    public void should_give_every_value_a_bucket_that_contains_it() {
+        for (long value = 0; value < 1L << 20; value += 97) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.highestValueIn(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValueIn(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void should_group_step_executions_by_title_without_parameter_values() {
+        String title = "Given I have " + ParameterMarkers.OPEN_PARAM_CHAR + "5" + ParameterMarkers.CLOSE_PARAM_CHAR
+                       + " apples";
+
+        assertThat(ParameterMarkers.withoutValues(title)).isEqualTo("Given I have {} apples");
+        assertThat(ParameterMarkers.withoutValues("Given no parameters")).isEqualTo("Given no parameters");
+    }
+
+    @Test
+    public void should_write_the_timings_as_json_and_openmetrics() throws Exception {
+        StepTimings timings = new StepTimings(true);
+        timings.recordStep("Given I have {} \"red\" apples", timings.start());
+        timings.recordStory("stories/apples.story", timings.start());
+
+        File outputDirectory = temporaryFolder.newFolder("output");
+        timings.writeTo(outputDirectory);
+
+        String json = new String(Files.readAllBytes(new File(outputDirectory, StepTimings.JSON_REPORT).toPath()),
+                                 StandardCharsets.UTF_8);
+        String metrics = new String(Files.readAllBytes(new File(outputDirectory, StepTimings.OPENMETRICS_REPORT).toPath()),
+                                    StandardCharsets.UTF_8);
+
+        assertThat(json).contains("\"Given I have {} \\\"red\\\" apples\": {\"count\": 1");
+        assertThat(json).contains("\"step_execution\": {\"count\": 1");
+        assertThat(metrics).contains("jbehave_step_duration_seconds_count{step=\"Given I have {} \\\"red\\\" apples\"} 1");
+        assertThat(metrics).contains("jbehave_story_duration_seconds{story=\"stories/apples.story\",quantile=\"0.99\"}");
+        assertThat(metrics).endsWith("# EOF\n");
+    }
+
+    @Test
+    public void should_not_record_anything_unless_enabled() {
+        StepTimings timings = new StepTimings(false);
+        timings.recordStep("Given a step", timings.start());
+
+        assertThat(timings.getSteps()).isEmpty();
+    }
+}
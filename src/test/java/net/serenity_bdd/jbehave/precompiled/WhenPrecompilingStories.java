@@ -0,0 +1,96 @@
+package net.serenity_bdd.jbehave.precompiled;
+
+import net.serenity_bdd.jbehave.SerenityStoryParser;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenPrecompilingStories {
+
+    private static final String STORY = "A story\n\nMeta:\n@tag domain:pricing\n\n"
+                                        + "Scenario: first\nMeta:\n@issue #1\nGiven a stock of <symbol>\nThen the status is <status>\n"
+                                        + "Examples:\n|symbol|status|\n|STK1|ON|\n|STK2|OFF|\n\n"
+                                        + "Scenario: second\nGiven a step\nAnd another step";
+
+    private final SerenityStoryParser storyParser = new SerenityStoryParser();
+
+    private PrecompiledStory writtenAndReadBack(PrecompiledStory precompiledStory) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        precompiledStory.writeTo(output);
+        return PrecompiledStory.readFrom(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    @Test
+    public void should_rebuild_the_same_story_from_its_precompiled_form() throws IOException {
+        PrecompiledStory precompiledStory = writtenAndReadBack(PrecompiledStory.compile(STORY, storyParser));
+
+        Story story = precompiledStory.toStory("stories/pricing.story", storyParser);
+        Story parsedStory = storyParser.parseStory(STORY, "stories/pricing.story");
+
+        assertThat(story.getName()).isEqualTo(parsedStory.getName());
+        assertThat(story.getDescription().asString()).isEqualTo(parsedStory.getDescription().asString());
+        assertThat(story.getMeta().getProperty("tag")).isEqualTo("domain:pricing");
+        assertThat(story.getScenarios()).hasSize(2);
+        for (int i = 0; i < story.getScenarios().size(); i++) {
+            Scenario scenario = story.getScenarios().get(i);
+            Scenario parsedScenario = parsedStory.getScenarios().get(i);
+            assertThat(scenario.getTitle()).isEqualTo(parsedScenario.getTitle());
+            assertThat(scenario.getSteps()).isEqualTo(parsedScenario.getSteps());
+            assertThat(scenario.getMeta().getPropertyNames()).isEqualTo(parsedScenario.getMeta().getPropertyNames());
+            assertThat(scenario.getExamplesTable().getRows()).isEqualTo(parsedScenario.getExamplesTable().getRows());
+        }
+    }
+
+    @Test
+    public void should_only_be_used_for_the_story_text_it_was_compiled_from() {
+        PrecompiledStory precompiledStory = PrecompiledStory.compile(STORY, storyParser);
+
+        assertThat(precompiledStory.isCompiledFrom(STORY)).isTrue();
+        assertThat(precompiledStory.isCompiledFrom(STORY + "\nThen a new step")).isFalse();
+    }
+
+    @Test
+    public void should_only_be_used_with_the_keywords_it_was_compiled_with() throws IOException {
+        PrecompiledStory precompiledStory = writtenAndReadBack(PrecompiledStory.compile(STORY, storyParser));
+
+        assertThat(precompiledStory.wasCompiledWith(new LocalizedKeywords())).isTrue();
+        assertThat(precompiledStory.wasCompiledWith(new LocalizedKeywords(Locale.GERMAN))).isFalse();
+    }
+
+    @Test
+    public void should_keep_stories_without_scenarios() throws IOException {
+        String storyWithoutScenarios = "Narrative:\nIn order to test\nAs a tester\nI want to precompile";
+
+        Story story = writtenAndReadBack(PrecompiledStory.compile(storyWithoutScenarios, storyParser))
+                .toStory("stories/empty.story", storyParser);
+
+        assertThat(story.getScenarios()).isEmpty();
+        assertThat(story.getNarrative().iWantTo()).isEqualTo("precompile");
+    }
+
+    @Test(expected = IOException.class)
+    public void should_reject_data_that_is_not_a_precompiled_story() throws IOException {
+        PrecompiledStory.readFrom(new ByteArrayInputStream("Scenario: not precompiled".getBytes("UTF-8")));
+    }
+
+    @Test
+    public void should_parse_the_story_text_when_there_is_no_precompiled_story() {
+        Story story = new PrecompiledStoryParser(storyParser).parseStory(STORY, "stories/not-precompiled.story");
+
+        assertThat(story.getScenarios()).hasSize(2);
+    }
+
+    @Test
+    public void should_store_precompiled_stories_next_to_the_story() {
+        assertThat(PrecompiledStoryParser.precompiledPathFor("stories/pricing.story"))
+                .isEqualTo("stories/pricing.storyc");
+    }
+}
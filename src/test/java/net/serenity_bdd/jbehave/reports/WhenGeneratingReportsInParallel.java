@@ -0,0 +1,221 @@
+package net.serenity_bdd.jbehave.reports;
+
+import com.google.common.base.Supplier;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WhenGeneratingReportsInParallel {
+
+    private final List<List<TestOutcome>> batches = Collections.synchronizedList(new ArrayList<List<TestOutcome>>());
+    private final Set<String> reportingThreads = Collections.synchronizedSet(new HashSet<String>());
+    private final Set<List<? extends TestOutcome>> allOutcomesSeenByReports
+            = Collections.synchronizedSet(new HashSet<List<? extends TestOutcome>>());
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_generate_reports_in_a_single_call_by_default() {
+        ParallelReportGenerator generator = ParallelReportGenerator.configuredBy(new MockEnvironmentVariables(),
+                                                                                 outputDirectory(),
+                                                                                 recordingReportServices());
+        generator.generateReportsFor(outcomes(500));
+
+        assertThat(generator.getThreads()).isEqualTo(1);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(500);
+    }
+
+    @Test
+    public void should_generate_reports_for_every_outcome_exactly_once_in_batches() {
+        List<TestOutcome> outcomes = outcomes(500);
+        ParallelReportGenerator generator = new ParallelReportGenerator(4, outputDirectory(),
+                                                                        recordingReportServices());
+
+        generator.generateReportsFor(outcomes);
+
+        List<TestOutcome> reportedOutcomes = new ArrayList<>();
+        for (List<TestOutcome> batch : batches) {
+            assertThat(batch.size()).isLessThanOrEqualTo(generator.batchSizeFor(500));
+            reportedOutcomes.addAll(batch);
+        }
+        assertThat(batches.size()).isGreaterThan(1);
+        assertThat(reportedOutcomes).hasSize(500);
+        assertThat(new HashSet<>(reportedOutcomes)).isEqualTo(new HashSet<>(outcomes));
+        assertThat(reportingThreads).excludes(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void should_give_every_report_all_the_outcomes_of_the_run() {
+        List<TestOutcome> outcomes = outcomes(500);
+
+        new ParallelReportGenerator(4, outputDirectory(), recordingReportServices()).generateReportsFor(outcomes);
+
+        assertThat(allOutcomesSeenByReports).hasSize(1);
+        assertThat(new HashSet<>(allOutcomesSeenByReports.iterator().next())).isEqualTo(new HashSet<>(outcomes));
+    }
+
+    @Test
+    public void should_write_the_same_reports_as_a_single_call() {
+        List<TestOutcome> outcomes = outcomes(500);
+        Map<String, String> reportsFromASingleCall = new ConcurrentHashMap<>();
+        Map<String, String> reportsInParallel = new ConcurrentHashMap<>();
+
+        new ParallelReportGenerator(1, outputDirectory(), reportServicesWritingTo(reportsFromASingleCall))
+                .generateReportsFor(outcomes);
+        new ParallelReportGenerator(4, outputDirectory(), reportServicesWritingTo(reportsInParallel))
+                .generateReportsFor(outcomes);
+
+        assertThat(reportsFromASingleCall).hasSize(500);
+        assertThat(reportsInParallel).isEqualTo(reportsFromASingleCall);
+    }
+
+    @Test
+    public void should_not_split_small_runs() {
+        new ParallelReportGenerator(4, outputDirectory(), recordingReportServices())
+                .generateReportsFor(outcomes(10));
+
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    public void should_take_the_number_of_threads_from_the_report_threads_property() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("report.threads", "8");
+
+        assertThat(ParallelReportGenerator.configuredBy(environmentVariables, outputDirectory(),
+                                                        recordingReportServices()).getThreads()).isEqualTo(8);
+    }
+
+    @Test
+    public void should_write_the_reports_of_every_batch_to_the_output_directory() throws IOException {
+        final File outputDirectory = temporaryFolder.newFolder("reports");
+        Supplier<ReportService> xmlReportServices = new Supplier<ReportService>() {
+            @Override
+            public ReportService get() {
+                AcceptanceTestReporter xmlReporter = new XMLTestOutcomeReporter();
+                return new ReportService(outputDirectory, Collections.singletonList(xmlReporter));
+            }
+        };
+        List<TestOutcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            outcomes.add(new TestOutcome("scenario_" + i, WhenGeneratingReportsInParallel.class));
+        }
+
+        new ParallelReportGenerator(4, outputDirectory, xmlReportServices).generateReportsFor(outcomes);
+
+        File[] reports = outputDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File directory, String name) {
+                return name.endsWith(".xml");
+            }
+        });
+        assertThat(reports).hasSize(100);
+    }
+
+    private File outputDirectory() {
+        return temporaryFolder.getRoot();
+    }
+
+    private Supplier<ReportService> recordingReportServices() {
+        return new Supplier<ReportService>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public ReportService get() {
+                final List<TestOutcome> batch = Collections.synchronizedList(new ArrayList<TestOutcome>());
+                batches.add(batch);
+                ReportService reportService = mock(ReportService.class);
+                doAnswer(new Answer<Void>() {
+                    @Override
+                    public Void answer(InvocationOnMock invocation) {
+                        batch.addAll((List<TestOutcome>) invocation.getArguments()[0]);
+                        reportingThreads.add(Thread.currentThread().getName());
+                        return null;
+                    }
+                }).when(reportService).generateReportsFor(anyListOf(TestOutcome.class));
+                AcceptanceTestReporter reporter = mock(AcceptanceTestReporter.class);
+                try {
+                    doAnswer(new Answer<File>() {
+                        @Override
+                        public File answer(InvocationOnMock invocation) {
+                            batch.add((TestOutcome) invocation.getArguments()[0]);
+                            allOutcomesSeenByReports.add(((TestOutcomes) invocation.getArguments()[1]).getOutcomes());
+                            reportingThreads.add(Thread.currentThread().getName());
+                            return null;
+                        }
+                    }).when(reporter).generateReportFor(any(TestOutcome.class), any(TestOutcomes.class));
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                when(reportService.getSubscribedReporters()).thenReturn(Collections.singletonList(reporter));
+                return reportService;
+            }
+        };
+    }
+
+    /**
+     * Report services with a reporter that "writes" each report as the names of all the outcomes it was given.
+     */
+    private Supplier<ReportService> reportServicesWritingTo(final Map<String, String> reports) {
+        return new Supplier<ReportService>() {
+            @Override
+            public ReportService get() {
+                AcceptanceTestReporter reporter = mock(AcceptanceTestReporter.class);
+                try {
+                    doAnswer(new Answer<File>() {
+                        @Override
+                        public File answer(InvocationOnMock invocation) {
+                            TestOutcome testOutcome = (TestOutcome) invocation.getArguments()[0];
+                            TestOutcomes allTestOutcomes = (TestOutcomes) invocation.getArguments()[1];
+                            StringBuilder report = new StringBuilder();
+                            for (TestOutcome outcome : allTestOutcomes.getOutcomes()) {
+                                report.append(outcome.getMethodName()).append('\n');
+                            }
+                            reports.put(testOutcome.getMethodName(), report.toString());
+                            return null;
+                        }
+                    }).when(reporter).generateReportFor(any(TestOutcome.class), any(TestOutcomes.class));
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                return new ReportService(temporaryFolder.getRoot(),
+                                         Collections.<AcceptanceTestReporter>singletonList(reporter));
+            }
+        };
+    }
+
+    private List<TestOutcome> outcomes(int count) {
+        List<TestOutcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            outcomes.add(new TestOutcome("scenario_" + i));
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,68 @@
+package net.serenity_bdd.jbehave.runners;
+
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenPrefilteringStories {
+
+    private static final String SMOKE_STORY = "Meta:\n@smoke\n\nNarrative:\nIn order to check\n\n"
+            + "Scenario: a scenario\nGiven a step\nThen another step\n";
+
+    private static final String STORY_WITH_A_SMOKE_SCENARIO = "Meta:\n@regression\n\n"
+            + "Scenario: a regression scenario\nGiven a step\n\n"
+            + "Scenario: a smoke scenario\nMeta:\n@smoke\n@owner bill\n\nGiven a step\nThen another step\n";
+
+    private static final String STORY_WITHOUT_SMOKE_TESTS = "Scenario: a scenario\nMeta:\n@regression\n\n"
+            + "Given a step\n\nScenario: another scenario\nGiven a step with Meta: @smoke in its text\n";
+
+    private static final String IGNORED_SMOKE_STORY = "Meta:\n@smoke\n@ignore\n\n"
+            + "Scenario: a scenario\nGiven a step\n";
+
+    private static final String STORY_WITH_A_COMMENTED_OUT_SMOKE_TAG = "Meta:\n@regression\n@!--smoke\n\n"
+            + "Scenario: a scenario\nMeta:\n@owner bill !-- who owns the smoke tests\n\nGiven a step\n";
+
+    private static final String STORY_WITH_META_BY_ROW = "Scenario: a scenario\nGiven a step\nExamples:\n"
+            + "|Meta:|value|\n|@smoke|1|\n";
+
+    @Test
+    public void should_keep_stories_whose_own_meta_matches() {
+        assertThat(prefilter("+smoke -ignore").mightRun(SMOKE_STORY)).isTrue();
+    }
+
+    @Test
+    public void should_keep_stories_with_a_scenario_that_matches() {
+        assertThat(prefilter("+smoke -ignore").mightRun(STORY_WITH_A_SMOKE_SCENARIO)).isTrue();
+        assertThat(prefilter("+owner bill").mightRun(STORY_WITH_A_SMOKE_SCENARIO)).isTrue();
+    }
+
+    @Test
+    public void should_let_scenarios_inherit_the_meta_of_the_story() {
+        assertThat(prefilter("+regression +smoke").mightRun(STORY_WITH_A_SMOKE_SCENARIO)).isTrue();
+        assertThat(prefilter("+regression -smoke").mightRun(STORY_WITH_A_SMOKE_SCENARIO)).isTrue();
+        assertThat(prefilter("-regression").mightRun(STORY_WITH_A_SMOKE_SCENARIO)).isFalse();
+    }
+
+    @Test
+    public void should_discard_stories_that_cannot_match() {
+        assertThat(prefilter("+smoke -ignore").mightRun(STORY_WITHOUT_SMOKE_TESTS)).isFalse();
+        assertThat(prefilter("+smoke -ignore").mightRun(IGNORED_SMOKE_STORY)).isFalse();
+    }
+
+    @Test
+    public void should_ignore_meta_properties_that_are_commented_out() {
+        assertThat(prefilter("+smoke").mightRun(STORY_WITH_A_COMMENTED_OUT_SMOKE_TAG)).isFalse();
+        assertThat(prefilter("+owner bill").mightRun(STORY_WITH_A_COMMENTED_OUT_SMOKE_TAG)).isTrue();
+    }
+
+    @Test
+    public void should_keep_stories_with_meta_in_their_examples_tables() {
+        assertThat(prefilter("+smoke").mightRun(STORY_WITH_META_BY_ROW)).isTrue();
+    }
+
+    private StoryPrefilter prefilter(String filter) {
+        return new StoryPrefilter(new MetaFilter(filter), new LocalizedKeywords());
+    }
+}
@@ -0,0 +1,198 @@
+package net.serenity_bdd.jbehave.shards;
+
+import com.google.common.base.Optional;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WhenMergingShards {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ReportService reportService = mock(ReportService.class);
+    private final AcceptanceTestReporter reporter = mock(AcceptanceTestReporter.class);
+    private final XMLTestOutcomeReporter outcomeLoader = mock(XMLTestOutcomeReporter.class);
+    private final TestOutcome firstRun = mock(TestOutcome.class);
+    private final TestOutcome rerun = mock(TestOutcome.class);
+    private final TestOutcome otherScenario = mock(TestOutcome.class);
+
+    private File mergedDirectory;
+    private ShardMerger merger;
+
+    @Before
+    public void setupMerger() throws IOException {
+        mergedDirectory = temporaryFolder.newFolder("merged");
+        merger = new ShardMerger(mergedDirectory, reportService, outcomeLoader);
+        when(outcomeLoader.loadReportFrom(any(File.class))).thenReturn(Optional.<TestOutcome>absent());
+        when(reportService.getSubscribedReporters())
+                .thenReturn(Collections.<AcceptanceTestReporter>singletonList(reporter));
+    }
+
+    @Test
+    public void should_read_back_the_entries_it_writes() throws IOException {
+        File manifestFile = temporaryFolder.newFile("test.manifest");
+        try (ShardManifest.Writer manifest = new ShardManifest.Writer(manifestFile)) {
+            manifest.write(new ShardManifest.Entry("stories/a.story#A\ttabbed \\ title", 42, "abc", "a.xml"));
+        }
+
+        try (ShardManifest.Reader manifest = new ShardManifest.Reader(manifestFile)) {
+            ShardManifest.Entry entry = manifest.next();
+            assertThat(entry.getKey()).isEqualTo("stories/a.story#A\ttabbed \\ title");
+            assertThat(entry.getRecordedAt()).isEqualTo(42);
+            assertThat(entry.getContentHash()).isEqualTo("abc");
+            assertThat(entry.getOutcomeFile()).isEqualTo("a.xml");
+            assertThat(manifest.next()).isNull();
+        }
+    }
+
+    @Test
+    public void should_keep_the_most_recent_run_of_each_scenario() throws IOException {
+        File firstShard = shard("node1", 100, entry("stories/a.story#Scenario A", "hash1", "a.xml", firstRun),
+                                entry("stories/b.story#Scenario B", "hash2", "b.xml", otherScenario));
+        File secondShard = shard("node2", 200, entry("stories/a.story#Scenario A", "hash3", "a.xml", rerun));
+
+        ShardMerger.MergeResult result = merger.merge(Arrays.asList(firstShard, secondShard));
+
+        assertThat(result.getScenarios()).isEqualTo(2);
+        assertThat(result.getDuplicateRuns()).isEqualTo(1);
+        verify(reporter).generateReportFor(eq(rerun), any(TestOutcomes.class));
+        verify(reporter).generateReportFor(eq(otherScenario), any(TestOutcomes.class));
+        verify(reporter, never()).generateReportFor(eq(firstRun), any(TestOutcomes.class));
+    }
+
+    @Test
+    public void should_generate_each_report_against_all_the_merged_outcomes() throws Exception {
+        File firstShard = shard("node1", 100, entry("stories/a.story#Scenario A", "hash1", "a.xml", firstRun),
+                                entry("stories/b.story#Scenario B", "hash2", "b.xml", otherScenario));
+        File secondShard = shard("node2", 200, entry("stories/a.story#Scenario A", "hash3", "a.xml", rerun));
+
+        merger.merge(Arrays.asList(firstShard, secondShard));
+
+        ArgumentCaptor<TestOutcomes> allOutcomes = ArgumentCaptor.forClass(TestOutcomes.class);
+        verify(reporter).generateReportFor(eq(rerun), allOutcomes.capture());
+        assertThat(allOutcomes.getValue().getOutcomes()).containsOnly(rerun, otherScenario);
+    }
+
+    @Test
+    public void should_only_regenerate_the_reports_of_scenarios_that_changed_since_the_last_merge() throws IOException {
+        File firstShard = shard("node1", 100, entry("stories/a.story#Scenario A", "hash1", "a.xml", firstRun),
+                                entry("stories/b.story#Scenario B", "hash2", "b.xml", otherScenario));
+        merger.merge(Collections.singletonList(firstShard));
+
+        File rerunShard = shard("node2", 200, entry("stories/a.story#Scenario A", "hash3", "a.xml", rerun));
+        ShardMerger.MergeResult result = merger.merge(Arrays.asList(firstShard, rerunShard));
+
+        assertThat(result.getRegenerated()).isEqualTo(1);
+        verify(reporter, times(1)).generateReportFor(eq(otherScenario), any(TestOutcomes.class));
+        verify(reporter).generateReportFor(eq(rerun), any(TestOutcomes.class));
+    }
+
+    @Test
+    public void should_regenerate_every_report_when_scenarios_are_added() throws Exception {
+        File firstShard = shard("node1", 100, entry("stories/a.story#Scenario A", "hash1", "a.xml", firstRun));
+        merger.merge(Collections.singletonList(firstShard));
+
+        File secondShard = shard("node2", 200, entry("stories/b.story#Scenario B", "hash2", "b.xml", otherScenario));
+        ShardMerger.MergeResult result = merger.merge(Arrays.asList(firstShard, secondShard));
+
+        assertThat(result.getRegenerated()).isEqualTo(2);
+        verify(reporter, times(2)).generateReportFor(eq(firstRun), any(TestOutcomes.class));
+    }
+
+    @Test
+    public void should_skip_directories_without_shard_outcomes() throws IOException {
+        ShardMerger.MergeResult result = merger.merge(Collections.singletonList(temporaryFolder.newFolder("empty")));
+
+        assertThat(result.getScenarios()).isEqualTo(0);
+        assertThat(new File(mergedDirectory, ShardMerger.MERGED_MANIFEST).exists()).isTrue();
+    }
+
+    @Test
+    public void should_merge_the_outcomes_of_every_reporter_that_wrote_to_the_same_output_directory()
+            throws IOException {
+        File outputDirectory = temporaryFolder.newFolder("node");
+        new ShardOutcomes(true).writeTo(outputDirectory, Collections.singletonList(new TestOutcome("scenario_a")));
+        new ShardOutcomes(true).writeTo(outputDirectory, Collections.singletonList(new TestOutcome("scenario_b")));
+
+        ShardMerger.MergeResult result = merger.merge(Collections.singletonList(outputDirectory));
+
+        assertThat(result.getScenarios()).isEqualTo(2);
+        assertThat(result.getDuplicateRuns()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_keep_scenarios_with_the_same_title_apart() throws IOException {
+        File outputDirectory = temporaryFolder.newFolder("node");
+        new ShardOutcomes(true).writeTo(outputDirectory,
+                                        Arrays.asList(new TestOutcome("scenario_a"), new TestOutcome("scenario_a")));
+
+        ShardMerger.MergeResult result = merger.merge(Collections.singletonList(outputDirectory));
+
+        assertThat(result.getScenarios()).isEqualTo(2);
+        assertThat(result.getDuplicateRuns()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_record_when_each_scenario_started() {
+        TestOutcome testOutcome = new TestOutcome("scenario_a");
+
+        assertThat(ShardOutcomes.recordedAt(testOutcome)).isEqualTo(testOutcome.getStartTime().getMillis());
+    }
+
+    private static class ShardEntry {
+        final String key;
+        final String hash;
+        final String outcomeFile;
+        final TestOutcome outcome;
+
+        ShardEntry(String key, String hash, String outcomeFile, TestOutcome outcome) {
+            this.key = key;
+            this.hash = hash;
+            this.outcomeFile = outcomeFile;
+            this.outcome = outcome;
+        }
+    }
+
+    private ShardEntry entry(String key, String hash, String outcomeFile, TestOutcome outcome) {
+        return new ShardEntry(key, hash, outcomeFile, outcome);
+    }
+
+    private File shard(String node, long recordedAt, ShardEntry... entries) throws IOException {
+        File shardDirectory = temporaryFolder.newFolder(node);
+        File shardFolder = new File(shardDirectory, ShardOutcomes.SHARD_FOLDER);
+        File manifestFile = new File(shardFolder, node + ShardManifest.FILE_EXTENSION);
+        try (ShardManifest.Writer manifest = new ShardManifest.Writer(manifestFile)) {
+            for (ShardEntry entry : entries) {
+                File outcomeFile = new File(shardFolder, entry.outcomeFile);
+                Files.write(outcomeFile.toPath(), entry.hash.getBytes(StandardCharsets.UTF_8));
+                when(outcomeLoader.loadReportFrom(outcomeFile)).thenReturn(Optional.of(entry.outcome));
+                manifest.write(new ShardManifest.Entry(entry.key, recordedAt, entry.hash, entry.outcomeFile));
+            }
+        }
+        return shardDirectory;
+    }
+}
@@ -0,0 +1,27 @@
+package net.serenity_bdd.jbehave.steps.api;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class OrderApiSteps {
+
+    private int orders;
+
+    @Given("an empty order book")
+    public void givenAnEmptyOrderBook() {
+        orders = 0;
+    }
+
+    @When("I place $count orders")
+    public void whenIPlaceOrders(int count) {
+        orders += count;
+    }
+
+    @Then("the order book should contain $count orders")
+    public void thenTheOrderBookShouldContain(int count) {
+        assertThat(orders).isEqualTo(count);
+    }
+}
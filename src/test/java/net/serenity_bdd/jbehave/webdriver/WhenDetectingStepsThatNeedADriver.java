@@ -0,0 +1,32 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import net.serenity_bdd.jbehave.steps.SomeNormalSteps;
+import net.serenity_bdd.jbehave.steps.SomeSeleniumSteps;
+import net.serenity_bdd.jbehave.steps.StoryStepsWithPageObjects;
+import net.serenity_bdd.jbehave.steps.StoryStepsWithSerenitySteps;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenDetectingStepsThatNeedADriver {
+
+    @Test
+    public void steps_with_managed_drivers_need_a_driver() {
+        assertThat(DriverRequirements.stepsNeedADriver(SomeSeleniumSteps.class)).isTrue();
+    }
+
+    @Test
+    public void steps_with_page_objects_need_a_driver() {
+        assertThat(DriverRequirements.stepsNeedADriver(StoryStepsWithPageObjects.class)).isTrue();
+    }
+
+    @Test
+    public void steps_using_only_non_web_step_libraries_do_not_need_a_driver() {
+        assertThat(DriverRequirements.stepsNeedADriver(StoryStepsWithSerenitySteps.class)).isFalse();
+    }
+
+    @Test
+    public void plain_step_libraries_do_not_need_a_driver() {
+        assertThat(DriverRequirements.stepsNeedADriver(SomeNormalSteps.class)).isFalse();
+    }
+}
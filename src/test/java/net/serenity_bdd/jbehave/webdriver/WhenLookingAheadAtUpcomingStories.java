@@ -0,0 +1,34 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class WhenLookingAheadAtUpcomingStories {
+
+    @Test
+    public void should_list_the_drivers_requested_by_the_next_stories_nearest_first() {
+        DriverLookAhead lookAhead = new DriverLookAhead();
+        lookAhead.storyWillRun("a.story", "firefox");
+        lookAhead.storyWillRun("b.story", null);
+        lookAhead.storyWillRun("c.story", "chrome");
+        lookAhead.storyWillRun("d.story", "phantomjs");
+
+        assertThat(lookAhead.driversRequestedAfter("a.story", 2)).containsExactly("", "chrome");
+        assertThat(lookAhead.driversRequestedAfter("c.story", 3)).containsExactly("phantomjs");
+    }
+
+    @Test
+    public void should_keep_the_stories_of_different_runners_apart() {
+        DriverLookAhead webStories = new DriverLookAhead();
+        DriverLookAhead apiStories = new DriverLookAhead();
+
+        webStories.storyWillRun("web/login.story", "firefox");
+        webStories.storyWillRun("web/search.story", "chrome");
+        apiStories.clear();
+        apiStories.storyWillRun("api/orders.story", "none");
+
+        assertThat(webStories.driversRequestedAfter("web/login.story", 3)).containsExactly("chrome");
+        assertThat(apiStories.driversRequestedAfter("web/login.story", 3)).isEmpty();
+    }
+}
@@ -0,0 +1,154 @@
+package net.serenity_bdd.jbehave.webdriver;
+
+import com.google.common.collect.ImmutableList;
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WhenPoolingWebDriverSessions {
+
+    @Mock
+    WebDriver firefox;
+
+    @Mock
+    WebDriver chrome;
+
+    @Mock
+    WebDriver.Options options;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        when(firefox.manage()).thenReturn(options);
+        when(chrome.manage()).thenReturn(options);
+    }
+
+    @Test
+    public void should_clean_up_a_session_between_stories_instead_of_closing_it() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+
+        pool.acquire("firefox", firefox);
+        pool.release();
+
+        verify(options).deleteAllCookies();
+        verify(firefox).get("about:blank");
+        verify(firefox, never()).quit();
+        assertThat(pool.getSessions()).hasSize(1);
+    }
+
+    @Test
+    public void should_restart_a_session_once_it_has_been_reused_too_many_times() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 2);
+
+        pool.acquire("firefox", firefox);
+        pool.release();
+        pool.acquire("firefox", firefox);
+        pool.release();
+
+        verify(firefox).quit();
+        assertThat(pool.getSessions().get(0).getUses()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_restart_a_session_that_no_longer_responds() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+        when(firefox.getWindowHandle()).thenThrow(new WebDriverException("browser has gone away"));
+
+        pool.acquire("firefox", firefox);
+        pool.release();
+
+        verify(firefox).quit();
+        verify(options, never()).deleteAllCookies();
+    }
+
+    @Test
+    public void should_keep_one_session_per_driver_type() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+
+        pool.acquire("firefox", firefox);
+        pool.release();
+        pool.acquire("chrome", chrome);
+        pool.release();
+
+        assertThat(pool.getSessions()).hasSize(2);
+    }
+
+    @Test
+    public void should_close_the_least_recently_used_session_when_the_pool_is_full() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(1, 10);
+
+        pool.acquire("firefox", firefox);
+        pool.release();
+        pool.acquire("chrome", chrome);
+
+        verify(firefox).quit();
+        verify(chrome, never()).quit();
+    }
+
+    @Test
+    public void should_warm_up_sessions_needed_by_upcoming_stories_in_the_background() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+        WebDriverFacade firefoxProxy = mock(WebDriverFacade.class);
+
+        pool.acquire("firefox", firefoxProxy);
+        pool.release();
+        pool.acquire("chrome", chrome);
+        pool.warmUp(ImmutableList.of("firefox"));
+
+        verify(firefoxProxy, timeout(1000)).getProxiedDriver();
+    }
+
+    @Test
+    public void should_not_warm_up_the_session_used_by_the_current_story() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+        WebDriverFacade firefoxProxy = mock(WebDriverFacade.class);
+
+        pool.acquire("firefox", firefoxProxy);
+        pool.warmUp(ImmutableList.of("firefox"));
+
+        verify(firefoxProxy, never()).getProxiedDriver();
+    }
+
+    @Test
+    public void should_hand_a_warmed_up_browser_back_to_the_test_thread_only_once_it_has_started() {
+        WebDriverSessionPool pool = new WebDriverSessionPool(2, 10);
+        WebDriverFacade firefoxProxy = mock(WebDriverFacade.class);
+        final AtomicReference<String> startedOn = new AtomicReference<>();
+        final AtomicBoolean started = new AtomicBoolean(false);
+        when(firefoxProxy.getProxiedDriver()).thenAnswer(new Answer<WebDriver>() {
+            @Override
+            public WebDriver answer(InvocationOnMock invocation) throws Throwable {
+                Thread.sleep(200);
+                startedOn.set(Thread.currentThread().getName());
+                started.set(true);
+                return firefox;
+            }
+        });
+
+        pool.acquire("firefox", firefoxProxy);
+        pool.release();
+        pool.acquire("chrome", chrome);
+        pool.warmUp(ImmutableList.of("firefox"));
+        pool.release();
+        pool.acquire("firefox", firefoxProxy);
+
+        assertThat(started.get()).isTrue();
+        assertThat(startedOn.get()).startsWith("driver-warm-up");
+    }
+}